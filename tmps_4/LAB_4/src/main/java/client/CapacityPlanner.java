@@ -0,0 +1,36 @@
+package client;
+
+import domain.kitchen.Station;
+import domain.models.inventory.Ingredient;
+import domain.simulation.ShopSimulator;
+import domain.simulation.SimulationConfig;
+
+// Simulates a full day for a few staffing options and prints each report.
+// Usage: CapacityPlanner [registers] [maxBaristas] [groupHeads]
+public class CapacityPlanner {
+
+    public static void main(String[] args) {
+        int registers = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        int maxBaristas = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int groupHeads = args.length > 2 ? Integer.parseInt(args[2]) : Station.ESPRESSO_GROUP.getUnits();
+
+        for (int baristas = 1; baristas <= maxBaristas; baristas++) {
+            SimulationConfig config = new SimulationConfig()
+                    .setRegisters(registers)
+                    .setBaristas(baristas)
+                    .setStationUnits(Station.ESPRESSO_GROUP, groupHeads)
+                    // A delivery big enough for a busy day, so staffing rather than stock is the limit
+                    .addOpeningStock(Ingredient.COFFEE_BEANS, 10_000)
+                    .addOpeningStock(Ingredient.MILK, 80_000)
+                    .addOpeningStock(Ingredient.WATER, 100_000)
+                    .addOpeningStock(Ingredient.CROISSANT, 120)
+                    .addOpeningStock(Ingredient.MUFFIN, 120)
+                    .addOpeningStock(Ingredient.CARAMEL_SAUCE, 2_000)
+                    .addOpeningStock(Ingredient.PISTACHIO_PASTE, 1_000);
+
+            System.out.println("\n>>> " + registers + " register(s), " + baristas + " barista(s), "
+                    + groupHeads + " group head(s)");
+            new ShopSimulator(config).run().display();
+        }
+    }
+}
@@ -55,6 +55,7 @@ public class Main {
         }
 
         ui.proceedToCheckout();
+        ui.waitForPendingOrders();
 
         ui.displayGoodbye();
         scanner.close();
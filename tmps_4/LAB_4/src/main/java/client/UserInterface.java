@@ -4,6 +4,7 @@ import domain.facade.OrderFacade;
 import domain.models.Coffee;
 import domain.models.enums.*;
 import domain.models.food.Food;
+import domain.pricing.Money;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -35,6 +36,10 @@ public class UserInterface {
         }
     }
 
+    public void waitForPendingOrders() {
+        orderFacade.awaitPendingOrders();
+    }
+
     public void displayGoodbye() {
         System.out.println("\n" + "=".repeat(60));
         System.out.println("Thank you for visiting " + orderFacade.getShopName() + ", come again"+ "!");
@@ -45,57 +50,53 @@ public class UserInterface {
     }
 
     public void displayCoffeeCharacteristics(String coffeeTypeName) {
-        Coffee temp = orderFacade.createBaseCoffee(coffeeTypeName);
-
         System.out.println("\n* " + coffeeTypeName.toUpperCase() + " Characteristics:");
         System.out.println("   - Base Price: $" + String.format("%.2f", orderFacade.getCoffeeBasePrice(coffeeTypeName)));
-        System.out.println("   - Shots: " + temp.getMinShots() + "-" + temp.getMaxShots() +
-                " (default: " + temp.getDefaultShots() + ")");
+        System.out.println("   - Shots: " + orderFacade.getMinShots(coffeeTypeName) + "-" + orderFacade.getMaxShots(coffeeTypeName) +
+                " (default: " + orderFacade.getDefaultShots(coffeeTypeName) + ")");
         System.out.println("   - Additional shots: $" + String.format("%.2f", orderFacade.getShotPrice()) + " each");
-        System.out.println("   - Milk: " + (temp.requiresMilk() ? "Required" :
-                (temp.allowsMilk() ? "Optional" : "Not allowed")));
-        System.out.println("   - Temperature: " + (temp.canBeIced() ? "Hot or Iced" : "Hot only"));
+        System.out.println("   - Milk: " + (orderFacade.requiresMilk(coffeeTypeName) ? "Required" :
+                (orderFacade.allowsMilk(coffeeTypeName) ? "Optional" : "Not allowed")));
+        System.out.println("   - Temperature: " + (orderFacade.canBeIced(coffeeTypeName) ? "Hot or Iced" : "Hot only"));
     }
 
     public void displayDrinkSummary(Coffee coffee) {
-        double price = coffee.getFinalPrice();
+        long price = coffee.getFinalPriceCents();
 
         System.out.println("\n" + "-".repeat(60));
         System.out.println("+ Drink Added:");
         System.out.println("  " + coffee.getDescription());
-        System.out.println("  Base Price: $" + String.format("%.2f", price));
+        System.out.println("  Base Price: $" + Money.format(price));
 
         if (isLoyaltyMember) {
-            double discountedPrice = orderFacade.applyLoyaltyDiscount(price);
-            System.out.println("  Loyalty Discount: -$" + String.format("%.2f", price - discountedPrice));
-            System.out.println("  Discounted Price: $" + String.format("%.2f", discountedPrice));
+            long discountedPrice = orderFacade.applyLoyaltyDiscount(price);
+            System.out.println("  Loyalty Discount: -$" + Money.format(price - discountedPrice));
+            System.out.println("  Discounted Price: $" + Money.format(discountedPrice));
             price = discountedPrice;
         }
 
-        double[] priceBreakdown = orderFacade.calculateFinalPrice(price);
-        System.out.println("  Tax: $" + String.format("%.2f", priceBreakdown[0]));
-        System.out.println("  Final Price: $" + String.format("%.2f", priceBreakdown[1]));
+        System.out.println("  Tax: $" + Money.format(orderFacade.calculateTax(price)));
+        System.out.println("  Final Price: $" + Money.format(orderFacade.calculateFinalPrice(price)));
         System.out.println("-".repeat(60));
     }
 
     public void displayFoodSummary(Food food) {
-        double price = food.getFinalPrice();
+        long price = food.getFinalPriceCents();
 
         System.out.println("\n" + "-".repeat(60));
         System.out.println("✓ Food Added:");
         System.out.println("  " + food.getDescription());
-        System.out.println("  Base Price: $" + String.format("%.2f", price));
+        System.out.println("  Base Price: $" + Money.format(price));
 
         if (isLoyaltyMember) {
-            double discountedPrice = orderFacade.applyLoyaltyDiscount(price);
-            System.out.println("  Loyalty Discount: -$" + String.format("%.2f", price - discountedPrice));
-            System.out.println("  Discounted Price: $" + String.format("%.2f", discountedPrice));
+            long discountedPrice = orderFacade.applyLoyaltyDiscount(price);
+            System.out.println("  Loyalty Discount: -$" + Money.format(price - discountedPrice));
+            System.out.println("  Discounted Price: $" + Money.format(discountedPrice));
             price = discountedPrice;
         }
 
-        double[] priceBreakdown = orderFacade.calculateFinalPrice(price);
-        System.out.println("  Tax: $" + String.format("%.2f", priceBreakdown[0]));
-        System.out.println("  Final Price: $" + String.format("%.2f", priceBreakdown[1]));
+        System.out.println("  Tax: $" + Money.format(orderFacade.calculateTax(price)));
+        System.out.println("  Final Price: $" + Money.format(orderFacade.calculateFinalPrice(price)));
         System.out.println("-".repeat(60));
     }
 
@@ -231,25 +232,23 @@ public class UserInterface {
     // ============ INPUT SELECTION METHODS ============
 
     private String selectCoffeeType() {
+        List<String> coffeeTypes = orderFacade.getCoffeeTypeNames();
+
         System.out.println("\nAvailable Coffee Types:");
-        System.out.println("1. Espresso    - $" + String.format("%.2f", orderFacade.getCoffeeBasePrice("espresso")));
-        System.out.println("2. Americano   - $" + String.format("%.2f", orderFacade.getCoffeeBasePrice("americano")));
-        System.out.println("3. Cappuccino  - $" + String.format("%.2f", orderFacade.getCoffeeBasePrice("cappuccino")));
-        System.out.println("4. Latte       - $" + String.format("%.2f", orderFacade.getCoffeeBasePrice("latte")));
-        System.out.print("\nSelect coffee type (1-4): ");
+        for (int i = 0; i < coffeeTypes.size(); i++) {
+            String typeName = coffeeTypes.get(i);
+            System.out.printf("%d. %-12s- $%.2f%n", i + 1,
+                    orderFacade.getCoffeeDisplayName(typeName), orderFacade.getCoffeeBasePrice(typeName));
+        }
+        System.out.print("\nSelect coffee type (1-" + coffeeTypes.size() + "): ");
 
         try {
             int choice = Integer.parseInt(scanner.nextLine().trim());
-            return switch (choice) {
-                case 1 -> "espresso";
-                case 2 -> "americano";
-                case 3 -> "cappuccino";
-                case 4 -> "latte";
-                default -> {
-                    System.out.println("Invalid choice. Please try again.");
-                    yield selectCoffeeType();
-                }
-            };
+            if (choice >= 1 && choice <= coffeeTypes.size()) {
+                return coffeeTypes.get(choice - 1);
+            }
+            System.out.println("Invalid choice. Please try again.");
+            return selectCoffeeType();
         } catch (NumberFormatException e) {
             System.out.println("Invalid input. Please enter a number.");
             return selectCoffeeType();
@@ -455,41 +454,42 @@ public class UserInterface {
         orderFacade.displayCurrentOrder();
 
         // Calculate total with loyalty discount
-        double subtotal = orderFacade.getCurrentOrderTotal();
-        double finalSubtotal = subtotal;
+        long subtotal = orderFacade.getCurrentOrderTotalCents();
+        long finalSubtotal = subtotal;
 
         if (isLoyaltyMember) {
-            double discountedAmount = orderFacade.applyLoyaltyDiscount(subtotal);
-            double discount = subtotal - discountedAmount;
+            long discountedAmount = orderFacade.applyLoyaltyDiscount(subtotal);
+            long discount = subtotal - discountedAmount;
             finalSubtotal = discountedAmount;
 
             System.out.println("\n Loyalty Discount Applied:");
-            System.out.printf("   Subtotal: $%.2f%n", subtotal);
-            System.out.printf("   Discount (%.0f%%): -$%.2f%n",
-                    orderFacade.getLoyaltyDiscount() * 100, discount);
-            System.out.printf("   Discounted Subtotal: $%.2f%n", finalSubtotal);
+            System.out.println("   Subtotal: $" + Money.format(subtotal));
+            System.out.printf("   Discount (%.0f%%): -$%s%n",
+                    orderFacade.getLoyaltyDiscount() * 100, Money.format(discount));
+            System.out.println("   Discounted Subtotal: $" + Money.format(finalSubtotal));
         }
 
-        double[] priceBreakdown = orderFacade.calculateFinalPrice(finalSubtotal);
-        double tax = priceBreakdown[0];
-        double total = priceBreakdown[1];
+        long tax = orderFacade.calculateTax(finalSubtotal);
+        long total = finalSubtotal + tax;
 
-        System.out.printf("\n Tax (%.0f%%): $%.2f%n", orderFacade.getTaxRate() * 100, tax);
-        System.out.printf(" TOTAL TO PAY: $%.2f%n", total);
+        System.out.printf("\n Tax (%.0f%%): $%s%n", orderFacade.getTaxRate() * 100, Money.format(tax));
+        System.out.println(" TOTAL TO PAY: $" + Money.format(total));
 
         if (!orderFacade.validateOrder()) {
             System.out.println("\n Order validation failed! Cannot proceed to payment.");
+            // Show everything that needs fixing, not just the first failed check
+            orderFacade.diagnoseOrder();
             return;
         }
         // Proceed to payment
         handlePayment(total);
     }
 
-    private void handlePayment(double total) {
+    private void handlePayment(long total) {
         System.out.println("\n" + "=".repeat(60));
         System.out.println("                 PAYMENT");
         System.out.println("=".repeat(60));
-        System.out.printf("Amount to pay: $%.2f%n", total);
+        System.out.println("Amount to pay: $" + Money.format(total));
 
         boolean paid = false;
 
@@ -532,21 +532,21 @@ public class UserInterface {
         }
     }
 
-    private String handleCashPayment(double total) {
+    private String handleCashPayment(long total) {
         while (true) {
             System.out.print("\nEnter cash amount given by customer: ");
             String input = scanner.nextLine().trim();
             try {
-                double cash = Double.parseDouble(input);
+                long cash = Money.parse(input);
                 // Facade creates and uses CashPaymentStrategy internally
                 return orderFacade.payWithCash(total, cash);
-            } catch (NumberFormatException e) {
+            } catch (NumberFormatException | ArithmeticException e) {
                 System.out.println("Invalid amount. Please enter a valid number.");
             }
         }
     }
 
-    private String handleCardPayment(double total) {
+    private String handleCardPayment(long total) {
         System.out.println("\n--- Card Payment ---");
 
         System.out.print("Cardholder Name: ");
@@ -565,7 +565,7 @@ public class UserInterface {
         return orderFacade.payWithCard(total, cardNumber, cardHolder, cvv, expiry);
     }
 
-    private String handleMobilePayment(double total) {
+    private String handleMobilePayment(long total) {
         System.out.println("\n--- Mobile Payment ---");
 
         System.out.print("Phone number (e.g. 063 333 333): ");
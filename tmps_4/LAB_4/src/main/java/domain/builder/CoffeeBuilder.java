@@ -14,6 +14,9 @@ public class CoffeeBuilder implements Builder{
     private int shots;
     private boolean iced;
 
+    // Set by quietly(); the builder then skips its step-by-step narration
+    private boolean quiet;
+
     public CoffeeBuilder(Coffee coffee) {
         this.coffee = coffee;
         this.size = Size.MEDIUM;
@@ -27,18 +30,24 @@ public class CoffeeBuilder implements Builder{
         }
     }
 
+    // For callers that build many drinks in bulk, e.g. simulations
+    public CoffeeBuilder quietly() {
+        this.quiet = true;
+        return this;
+    }
+
     public CoffeeBuilder withSize(Size size) {
         this.size = size;
-        System.out.println("Selecting a cup of " + this.size + " size");
+        say("Selecting a cup of " + this.size + " size");
         return this;
     }
 
     public CoffeeBuilder withMilkType(MilkType milkType) {
         if (coffee.allowsMilk()) {
             this.milkType = milkType;
-            System.out.println("Pouring " + this.milkType + " milk");
+            say("Pouring " + this.milkType + " milk");
         } else {
-            System.out.println("!!! " + coffee.getName() + " cannot have milk. Skipping milk selection.");
+            say("!!! " + coffee.getName() + " cannot have milk. Skipping milk selection.");
         }
         return this;
     }
@@ -47,7 +56,7 @@ public class CoffeeBuilder implements Builder{
         CoffeeShopConfig config = CoffeeShopConfig.getInstance();
         if (extras.size() < config.getMaxExtrasPerDrink()) {
             this.extras.add(extra);
-            System.out.println("Adding extra: " + extra);
+            say("Adding extra: " + extra);
         }
         return this;
     }
@@ -57,22 +66,22 @@ public class CoffeeBuilder implements Builder{
                 Math.min(shots, coffee.getMaxShots()));
 
         if (shots != validShots) {
-            System.out.println("!!! " + coffee.getName() + " supports " +
+            say("!!! " + coffee.getName() + " supports " +
                     coffee.getMinShots() + "-" + coffee.getMaxShots() +
                     " shots. Setting to " + validShots + ".");
         }
 
         this.shots = validShots;
-        System.out.println("Pouring " + shots + " shots of coffee");
+        say("Pouring " + shots + " shots of coffee");
         return this;
     }
 
     public CoffeeBuilder makeIced() {
         if (coffee.canBeIced()) {
             this.iced = true;
-            System.out.println("Adding ice");
+            say("Adding ice");
         } else {
-            System.out.println("!!! " + coffee.getName() + " cannot be served iced. Keeping it hot.");
+            say("!!! " + coffee.getName() + " cannot be served iced. Keeping it hot.");
         }
         return this;
     }
@@ -83,7 +92,7 @@ public class CoffeeBuilder implements Builder{
 
         // Ensure milk requirement is met
         if (coffee.requiresMilk() && milkType == null) {
-            System.out.println("!!! " + coffee.getName() + " requires milk. Using default Whole Milk.");
+            say("!!! " + coffee.getName() + " requires milk. Using default Whole Milk.");
             milkType = MilkType.WHOLE;
         }
 
@@ -103,4 +112,10 @@ public class CoffeeBuilder implements Builder{
     public Coffee getCoffee() {
         return coffee;
     }
+
+    private void say(String message) {
+        if (!quiet) {
+            System.out.println(message);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,236 @@
+package domain.calendar;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// When the shop is open: weekly hours plus dated exceptions (holidays, short days). Each day's
+// hours are compiled into a sorted array of [open, close) seconds. A lookup remembers the
+// stretch of time it fell into, and every later lookup inside that stretch is answered with
+// two comparisons and no date arithmetic.
+public final class BusinessCalendar {
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int[] CLOSED = new int[0];
+
+    private final ZoneId zone;
+    private final Clock clock;
+
+    // By DayOfWeek.ordinal(): open0, close0, open1, close1, ... in seconds of the day, sorted
+    private final int[][] weekly;
+    private final Map<LocalDate, int[]> exceptions;
+
+    // Last answer and the time range it holds for; replaced as a whole, so reads need no lock
+    private volatile Window cached = new Window(Long.MIN_VALUE, Long.MIN_VALUE, false);
+
+    private BusinessCalendar(ZoneId zone, Clock clock, int[][] weekly, Map<LocalDate, int[]> exceptions) {
+        this.zone = zone;
+        this.clock = clock;
+        this.weekly = weekly;
+        this.exceptions = exceptions;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Same hours on another clock, e.g. a ManualClock driven by a simulation
+    public BusinessCalendar withClock(Clock clock) {
+        return new BusinessCalendar(zone, clock, weekly, exceptions);
+    }
+
+    // ============ LOOKUP ============
+
+    public boolean isOpen() {
+        return isOpenAt(clock.millis());
+    }
+
+    public boolean isOpenAt(long epochMillis) {
+        Window window = cached;
+        if (epochMillis >= window.from && epochMillis < window.until) {
+            return window.open;
+        }
+        window = windowAt(epochMillis);
+        cached = window;
+        return window.open;
+    }
+
+    private Window windowAt(long epochMillis) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone);
+        LocalDate date = time.toLocalDate();
+        int second = time.toLocalTime().toSecondOfDay();
+        int[] bounds = hoursOn(date);
+
+        // Index of the first boundary after `second`; odd = inside an open interval
+        int next = 0;
+        while (next < bounds.length && bounds[next] <= second) {
+            next++;
+        }
+        boolean open = (next & 1) == 1;
+        int fromSecond = next == 0 ? 0 : bounds[next - 1];
+        int untilSecond = next == bounds.length ? SECONDS_PER_DAY : bounds[next];
+        return new Window(toEpochMillis(date, fromSecond), toEpochMillis(date, untilSecond), open);
+    }
+
+    private long toEpochMillis(LocalDate date, int secondOfDay) {
+        LocalDateTime time = secondOfDay == SECONDS_PER_DAY ? date.plusDays(1).atStartOfDay()
+                : date.atTime(LocalTime.ofSecondOfDay(secondOfDay));
+        return time.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private int[] hoursOn(LocalDate date) {
+        int[] special = exceptions.get(date);
+        return special != null ? special : weekly[date.getDayOfWeek().ordinal()];
+    }
+
+    // ============ DESCRIPTION ============
+
+    public LocalDateTime now() {
+        return LocalDateTime.ofInstant(clock.instant(), zone);
+    }
+
+    // e.g. "07:00 - 12:00, 13:00 - 20:00" or "closed"
+    public String describeHours(LocalDate date) {
+        int[] bounds = hoursOn(date);
+        if (bounds.length == 0) {
+            return "closed";
+        }
+        StringBuilder hours = new StringBuilder();
+        for (int i = 0; i < bounds.length; i += 2) {
+            if (i > 0) {
+                hours.append(", ");
+            }
+            hours.append(LocalTime.ofSecondOfDay(bounds[i])).append(" - ")
+                    .append(bounds[i + 1] == SECONDS_PER_DAY ? "24:00" : LocalTime.ofSecondOfDay(bounds[i + 1]));
+        }
+        return hours.toString();
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    private static final class Window {
+        private final long from;
+        private final long until;
+        private final boolean open;
+
+        private Window(long from, long until, boolean open) {
+            this.from = from;
+            this.until = until;
+            this.open = open;
+        }
+    }
+
+    // ============ BUILDER ============
+
+    public static final class Builder {
+        private ZoneId zone = ZoneId.systemDefault();
+        private Clock clock;
+        private final List<List<int[]>> weekly = new ArrayList<>();
+        private final Map<LocalDate, List<int[]>> exceptions = new HashMap<>();
+
+        private Builder() {
+            for (int day = 0; day < DayOfWeek.values().length; day++) {
+                weekly.add(new ArrayList<>());
+            }
+        }
+
+        public Builder withZone(ZoneId zone) {
+            this.zone = zone;
+            return this;
+        }
+
+        // Defaults to the system clock in the calendar's zone
+        public Builder withClock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        // close may be LocalTime.MIDNIGHT for "until the end of the day"
+        public Builder addHours(DayOfWeek day, LocalTime open, LocalTime close) {
+            weekly.get(day.ordinal()).add(interval(open, close));
+            return this;
+        }
+
+        public Builder addHoursEveryDay(LocalTime open, LocalTime close) {
+            for (DayOfWeek day : DayOfWeek.values()) {
+                addHours(day, open, close);
+            }
+            return this;
+        }
+
+        // Closed all day, whatever the weekday says
+        public Builder addHoliday(LocalDate date) {
+            exceptions.put(date, new ArrayList<>());
+            return this;
+        }
+
+        // Replaces the weekday's hours on that date; call again to add a second interval
+        public Builder addSpecialHours(LocalDate date, LocalTime open, LocalTime close) {
+            exceptions.computeIfAbsent(date, d -> new ArrayList<>()).add(interval(open, close));
+            return this;
+        }
+
+        private static int[] interval(LocalTime open, LocalTime close) {
+            int from = open.toSecondOfDay();
+            int until = close.equals(LocalTime.MIDNIGHT) ? SECONDS_PER_DAY : close.toSecondOfDay();
+            if (until <= from) {
+                throw new IllegalArgumentException("Opening hours must close after they open on the same day: "
+                        + open + " - " + close);
+            }
+            return new int[] {from, until};
+        }
+
+        public BusinessCalendar build() {
+            int[][] compiledWeek = new int[weekly.size()][];
+            for (int day = 0; day < compiledWeek.length; day++) {
+                compiledWeek[day] = compile(weekly.get(day), DayOfWeek.of(day + 1).toString());
+            }
+            Map<LocalDate, int[]> compiledExceptions = new HashMap<>();
+            for (Map.Entry<LocalDate, List<int[]>> entry : exceptions.entrySet()) {
+                compiledExceptions.put(entry.getKey(), compile(entry.getValue(), entry.getKey().toString()));
+            }
+            Clock calendarClock = clock != null ? clock : Clock.system(zone);
+            return new BusinessCalendar(zone, calendarClock, compiledWeek,
+                    Collections.unmodifiableMap(compiledExceptions));
+        }
+
+        // Sorted, non-overlapping intervals flattened to open0, close0, open1, close1, ...
+        // Intervals that touch are merged, so a boundary always means the state changes.
+        private static int[] compile(List<int[]> intervals, String day) {
+            if (intervals.isEmpty()) {
+                return CLOSED;
+            }
+            int[][] sorted = intervals.toArray(new int[0][]);
+            Arrays.sort(sorted, (a, b) -> Integer.compare(a[0], b[0]));
+            int[] bounds = new int[sorted.length * 2];
+            int length = 0;
+            for (int[] interval : sorted) {
+                if (length > 0 && interval[0] < bounds[length - 1]) {
+                    throw new IllegalArgumentException("Overlapping opening hours on " + day);
+                }
+                if (length > 0 && interval[0] == bounds[length - 1]) {
+                    bounds[length - 1] = interval[1];
+                } else {
+                    bounds[length++] = interval[0];
+                    bounds[length++] = interval[1];
+                }
+            }
+            return length == bounds.length ? bounds : Arrays.copyOf(bounds, length);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package domain.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+// Cost of one "is the shop open?" answer three ways: the old LocalTime.now() comparison
+// against 00:00-23:58, the calendar with the same hours on the system clock, and a calendar
+// with split weekday hours on a ManualClock that moves one millisecond per lookup.
+// Usage: CalendarBench [lookups] [rounds]
+public class CalendarBench {
+    private static final LocalTime OLD_OPEN = LocalTime.of(0, 0);
+    private static final LocalTime OLD_CLOSE = LocalTime.of(23, 58);
+
+    public static void main(String[] args) {
+        int lookups = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        BusinessCalendar systemClock = BusinessCalendar.builder().addHoursEveryDay(OLD_OPEN, OLD_CLOSE).build();
+        ZoneId zone = ZoneId.systemDefault();
+        ManualClock clock = new ManualClock(zone,
+                LocalDateTime.of(2026, 10, 19, 7, 0).atZone(zone).toInstant().toEpochMilli());
+        BusinessCalendar manual = BusinessCalendar.builder().withZone(zone).withClock(clock)
+                .addHours(DayOfWeek.MONDAY, LocalTime.of(7, 0), LocalTime.of(12, 0))
+                .addHours(DayOfWeek.MONDAY, LocalTime.of(13, 0), LocalTime.of(20, 0))
+                .addHours(DayOfWeek.TUESDAY, LocalTime.of(7, 0), LocalTime.of(20, 0))
+                .build();
+
+        // Counted and printed so the JIT cannot drop the lookups
+        long open = 0;
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                LocalTime now = LocalTime.now();
+                if (now.isAfter(OLD_OPEN) && now.isBefore(OLD_CLOSE)) {
+                    open++;
+                }
+            }
+            long old = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                if (systemClock.isOpen()) {
+                    open++;
+                }
+            }
+            long calendar = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                clock.advanceMillis(1);
+                if (manual.isOpen()) {
+                    open++;
+                }
+            }
+            long manualClock = System.nanoTime() - start;
+
+            // Round 0 is the warm-up and is not printed
+            if (round > 0) {
+                System.out.printf("LocalTime.now() check %5.1f ns, calendar on system clock %5.1f ns, "
+                                + "calendar on ManualClock %5.1f ns%n",
+                        (double) old / lookups, (double) calendar / lookups, (double) manualClock / lookups);
+            }
+        }
+        System.out.println("(open answers: " + open + ")");
+    }
+}
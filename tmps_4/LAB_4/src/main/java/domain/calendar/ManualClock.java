@@ -0,0 +1,52 @@
+package domain.calendar;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+// A clock that only moves when told to, for simulations and benchmarks
+public final class ManualClock extends Clock {
+    private final ZoneId zone;
+    private volatile long millis;
+
+    public ManualClock(ZoneId zone, long epochMillis) {
+        this.zone = zone;
+        this.millis = epochMillis;
+    }
+
+    public void setMillis(long epochMillis) {
+        this.millis = epochMillis;
+    }
+
+    // Not atomic: meant for the single thread that drives the simulation
+    public void advanceMillis(long deltaMillis) {
+        this.millis += deltaMillis;
+    }
+
+    @Override
+    public long millis() {
+        return millis;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    // Shares the time with this clock, unlike Clock.withZone on a fixed clock
+    @Override
+    public Clock withZone(ZoneId zone) {
+        ManualClock parent = this;
+        return new Clock() {
+            @Override public long millis() { return parent.millis; }
+            @Override public Instant instant() { return Instant.ofEpochMilli(parent.millis); }
+            @Override public ZoneId getZone() { return zone; }
+            @Override public Clock withZone(ZoneId other) { return parent.withZone(other); }
+        };
+    }
+}
@@ -1,6 +1,6 @@
 package domain.chainOfResponsability;
 
-import domain.models.Order;
+import domain.models.OrderSnapshot;
 
 public class EmptyOrderHandler extends OrderValidationHandler {
 
@@ -9,9 +9,15 @@ public class EmptyOrderHandler extends OrderValidationHandler {
     }
 
     @Override
-    protected boolean doValidation(Order order) {
-        if (order.isEmpty()) {
-            System.out.println("    Order is empty!");
+    protected String findProblem(OrderSnapshot order) {
+        return order.isEmpty() ? "Order is empty" : null;
+    }
+
+    @Override
+    protected boolean doValidation(OrderSnapshot order) {
+        String problem = findProblem(order);
+        if (problem != null) {
+            System.out.println("    " + problem + "!");
             return false;
         }
 
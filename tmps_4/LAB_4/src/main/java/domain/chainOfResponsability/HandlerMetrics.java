@@ -0,0 +1,41 @@
+package domain.chainOfResponsability;
+
+// Point-in-time counters for one validation handler
+public final class HandlerMetrics {
+    private final String handlerName;
+    private final int position;
+    private final long invocations;
+    private final long rejections;
+    private final long totalNanos;
+
+    HandlerMetrics(String handlerName, int position, long invocations, long rejections, long totalNanos) {
+        this.handlerName = handlerName;
+        this.position = position;
+        this.invocations = invocations;
+        this.rejections = rejections;
+        this.totalNanos = totalNanos;
+    }
+
+    public String getHandlerName() { return handlerName; }
+    public long getInvocations() { return invocations; }
+    public long getRejections() { return rejections; }
+    public long getTotalNanos() { return totalNanos; }
+
+    // 0-based place in the chain when the metrics were taken
+    public int getPosition() { return position; }
+
+    public long getAverageNanos() {
+        return invocations == 0 ? 0 : totalNanos / invocations;
+    }
+
+    public double getRejectionRate() {
+        return invocations == 0 ? 0 : (double) rejections / invocations;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("#%d %s: %d runs, %d rejected (%.1f%%), avg %.1f µs",
+                position + 1, handlerName, invocations, rejections, getRejectionRate() * 100,
+                getAverageNanos() / 1e3);
+    }
+}
@@ -1,22 +1,30 @@
 package domain.chainOfResponsability;
 
-import domain.models.Order;
+import domain.models.OrderSnapshot;
+import domain.pricing.Money;
 
 public class MinimumOrderHandler extends OrderValidationHandler {
-    private static final double MINIMUM_ORDER_AMOUNT = 3.0;
+    private static final long MINIMUM_ORDER_CENTS = 300;
 
     public MinimumOrderHandler() {
         super("Minimum Order Check");
     }
 
     @Override
-    protected boolean doValidation(Order order) {
-        double total = order.getTotal();
+    protected String findProblem(OrderSnapshot order) {
+        long total = order.getTotalCents();
+        if (total < MINIMUM_ORDER_CENTS) {
+            return "Order below minimum amount: $" + Money.format(total)
+                    + " (minimum $" + Money.format(MINIMUM_ORDER_CENTS) + ")";
+        }
+        return null;
+    }
 
-        if (total < MINIMUM_ORDER_AMOUNT) {
-            System.out.println("    Order below minimum amount!");
-            System.out.println("   Current: $" + String.format("%.2f", total));
-            System.out.println("   Minimum: $" + String.format("%.2f", MINIMUM_ORDER_AMOUNT));
+    @Override
+    protected boolean doValidation(OrderSnapshot order) {
+        String problem = findProblem(order);
+        if (problem != null) {
+            System.out.println("    " + problem);
             return false;
         }
 
@@ -1,6 +1,6 @@
 package domain.chainOfResponsability;
 
-import domain.models.Order;
+import domain.models.OrderSnapshot;
 
 public abstract class OrderValidationHandler {
     protected OrderValidationHandler nextHandler;
@@ -14,7 +14,7 @@ public abstract class OrderValidationHandler {
         this.nextHandler = handler;
     }
 
-    public boolean validate(Order order) {
+    public boolean validate(OrderSnapshot order) {
         System.out.println(" [" + handlerName + "] Validating...");
 
         boolean isValid = doValidation(order);
@@ -28,9 +28,26 @@ public abstract class OrderValidationHandler {
         }
     }
 
-    protected abstract boolean doValidation(Order order);
+    protected abstract boolean doValidation(OrderSnapshot order);
 
-    protected boolean passToNext(Order order) {
+    // Why the order fails this check, or null if it passes. Used by ValidationChain.diagnose,
+    // which runs handlers concurrently, so overrides must not print or keep per-order state.
+    protected String findProblem(OrderSnapshot order) {
+        return doValidation(order) ? null : handlerName + " failed";
+    }
+
+    // True for checks that go through state shared by every register (the stock), where the
+    // wait for other threads can dwarf the check itself. diagnose() always starts these on its
+    // executor so the order-only checks run meanwhile.
+    protected boolean runsConcurrently() {
+        return false;
+    }
+
+    public String getHandlerName() {
+        return handlerName;
+    }
+
+    protected boolean passToNext(OrderSnapshot order) {
         if (nextHandler != null) {
             return nextHandler.validate(order);
         }
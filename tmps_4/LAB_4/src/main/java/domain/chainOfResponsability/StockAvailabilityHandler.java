@@ -1,78 +1,56 @@
 package domain.chainOfResponsability;
 
 
-import domain.models.Coffee;
-import domain.models.food.Food;
+import domain.models.inventory.Ingredient;
 import domain.models.inventory.InventoryManager;
-import domain.models.Order;
+import domain.models.inventory.StockDemand;
+import domain.models.OrderSnapshot;
 
 public class StockAvailabilityHandler extends OrderValidationHandler {
     private InventoryManager inventoryManager;
 
     public StockAvailabilityHandler() {
+        this(InventoryManager.getInstance());
+    }
+
+    public StockAvailabilityHandler(InventoryManager inventoryManager) {
         super("Stock Availability Check");
-        this.inventoryManager = InventoryManager.getInstance();
+        this.inventoryManager = inventoryManager;
     }
 
     @Override
-    protected boolean doValidation(Order order) {
-        System.out.println("Checking inventory availability...");
-
-        for (Coffee drink : order.getDrinks()) {
-            if (!checkDrinkStock(drink)) {
-                System.out.println(" Insufficient stock for: " + drink.getDescription());
-                return false;
-            }
+    protected String findProblem(OrderSnapshot order) {
+        // Sum the whole order first - five lattes need five lattes' worth of milk
+        int[] demand = StockDemand.of(order);
+        // Stock this order already holds from an earlier validation counts toward it
+        Ingredient shortage = inventoryManager.findShortage(order.getOrderId(), demand);
+        if (shortage == null) {
+            return null;
         }
-
-        // Check food items
-        for (Food food : order.getFoods()) {
-            if (!checkFoodStock(food)) {
-                System.out.println(" Insufficient stock for: " + food.getDescription());
-                return false;
-            }
-        }
-
-
-        System.out.println("   ✓ All items available in stock");
-        return true;
+        return "Insufficient stock of " + shortage.getDisplayName() + ": order needs "
+                + demand[shortage.ordinal()] + " " + shortage.getUnit() + ", only "
+                + inventoryManager.getAvailableTo(order.getOrderId(), shortage) + " " + shortage.getUnit()
+                + " available";
     }
 
-    private boolean checkDrinkStock(Coffee drink) {
-        // Check basic ingredients
-        if (!inventoryManager.checkAvailability("coffee_beans", 1)) return false;
-        if (!inventoryManager.checkAvailability("water", 1)) return false;
-
-        String description = drink.getDescription().toLowerCase();
-
-        // Check for milk-based drinks
-        if ((description.contains("latte") || description.contains("cappuccino"))
-                && !inventoryManager.checkAvailability("milk", 1)) {
-            return false;
-        }
-
+    // findShortage takes each ingredient's lock, which reservations and sales on other
+    // registers hold too
+    @Override
+    protected boolean runsConcurrently() {
         return true;
     }
 
-    private boolean checkFoodStock(Food food) {
-        String description = food.getDescription().toLowerCase();
-
-        // Check base food
-        if (description.contains("croissant") && !inventoryManager.checkAvailability("croissant", 1)) {
-            return false;
-        }
-        if (description.contains("muffin") && !inventoryManager.checkAvailability("muffin", 1)) {
-            return false;
-        }
+    @Override
+    protected boolean doValidation(OrderSnapshot order) {
+        System.out.println("Checking inventory availability...");
 
-        // Check decorators
-        if (description.contains("caramel") && !inventoryManager.checkAvailability("caramel_sauce", 1)) {
-            return false;
-        }
-        if (description.contains("pistachio") && !inventoryManager.checkAvailability("pistachio_paste", 1)) {
+        String problem = findProblem(order);
+        if (problem != null) {
+            System.out.println(" " + problem);
             return false;
         }
 
+        System.out.println("   ✓ All items available in stock");
         return true;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,285 @@
+package domain.chainOfResponsability;
+
+import domain.models.OrderSnapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// The handler chain flattened into an array and run in a loop, timing each handler and
+// counting its rejections. In adaptive mode the order is recomputed every REORDER_EVERY
+// validations so that checks which are cheap and reject often run first: for independent
+// checks, sorting by average cost / rejection rate minimises the expected cost per order.
+public class ValidationChain {
+    private static final int REORDER_EVERY = 256;
+
+    // Needed before a handler's own figures are trusted over its original position
+    private static final long MIN_SAMPLES = 32;
+
+    // Handing a check to another thread costs tens of microseconds, so apart from handlers
+    // that ask for it, diagnose() only offloads those whose measured average is well above that
+    private static final long OFFLOAD_ABOVE_NANOS = 50_000;
+
+    private final OrderValidationHandler[] handlers;
+    private final Stats[] stats;
+    private final boolean adaptive;
+
+    // diagnose() usually follows a failed validate() of the same order and runs every handler
+    // whatever its position, so its figures are kept apart from the ones that drive reordering
+    private final Stats[] diagnosisStats;
+
+    // Runs the slow handlers during diagnose(); null = everything on the calling thread
+    private final Executor diagnosisExecutor;
+
+    // Indexes into handlers, in run order; swapped as a whole when the chain reorders
+    private volatile int[] order;
+    private final AtomicLong validations = new AtomicLong();
+
+    public ValidationChain(boolean adaptive, OrderValidationHandler... handlers) {
+        this(adaptive, null, handlers);
+    }
+
+    public ValidationChain(boolean adaptive, Executor diagnosisExecutor, OrderValidationHandler... handlers) {
+        if (handlers.length == 0) {
+            throw new IllegalArgumentException("A validation chain needs at least one handler");
+        }
+        this.handlers = handlers.clone();
+        this.stats = new Stats[handlers.length];
+        this.diagnosisStats = new Stats[handlers.length];
+        this.order = new int[handlers.length];
+        for (int i = 0; i < handlers.length; i++) {
+            stats[i] = new Stats();
+            diagnosisStats[i] = new Stats();
+            order[i] = i;
+        }
+        this.adaptive = adaptive;
+        this.diagnosisExecutor = diagnosisExecutor;
+    }
+
+    // Follows setNext() links from head, in the order they were wired
+    public static ValidationChain compile(OrderValidationHandler head, boolean adaptive, Executor diagnosisExecutor) {
+        List<OrderValidationHandler> handlers = new ArrayList<>();
+        for (OrderValidationHandler handler = head; handler != null; handler = handler.nextHandler) {
+            if (handlers.contains(handler)) {
+                throw new IllegalArgumentException("Validation chain loops back to " + handler.handlerName);
+            }
+            handlers.add(handler);
+        }
+        return new ValidationChain(adaptive, diagnosisExecutor, handlers.toArray(new OrderValidationHandler[0]));
+    }
+
+    // ============ VALIDATION ============
+
+    // Same console output and short-circuit as OrderValidationHandler.validate, without recursion
+    public boolean validate(OrderSnapshot order) {
+        int[] current = this.order;
+        boolean valid = true;
+        for (int index : current) {
+            OrderValidationHandler handler = handlers[index];
+            System.out.println(" [" + handler.handlerName + "] Validating...");
+
+            long start = System.nanoTime();
+            boolean passed = handler.doValidation(order);
+            stats[index].record(System.nanoTime() - start, passed);
+
+            if (!passed) {
+                System.out.println("   ✗ " + handler.handlerName + " - FAILED");
+                valid = false;
+                break;
+            }
+            System.out.println("   ✓ " + handler.handlerName + " - PASSED");
+        }
+        countValidation();
+        return valid;
+    }
+
+    // Same checks, order and short-circuit as validate(), through findProblem() and without
+    // console output - for callers that validate in bulk, e.g. simulations
+    public boolean validateQuietly(OrderSnapshot order) {
+        int[] current = this.order;
+        boolean valid = true;
+        for (int index : current) {
+            long start = System.nanoTime();
+            boolean passed = handlers[index].findProblem(order) == null;
+            stats[index].record(System.nanoTime() - start, passed);
+            if (!passed) {
+                valid = false;
+                break;
+            }
+        }
+        countValidation();
+        return valid;
+    }
+
+    private void countValidation() {
+
+        if (adaptive && validations.incrementAndGet() % REORDER_EVERY == 0) {
+            reorder();
+        }
+    }
+
+    // ============ FULL DIAGNOSIS ============
+
+    // Runs every handler instead of stopping at the first failure. The checks only read the
+    // order and the stock, so none depends on another having passed, and the slow ones run
+    // concurrently with the rest. Quiet: the returned report is the output.
+    public ValidationReport diagnose(OrderSnapshot order) {
+        long start = System.nanoTime();
+        String[] problems = new String[handlers.length];
+        boolean[] elsewhere = new boolean[handlers.length];
+
+        List<CompletableFuture<Void>> offloaded = null;
+        if (diagnosisExecutor != null) {
+            for (int i = 0; i < handlers.length; i++) {
+                if (isWorthOffloading(i)) {
+                    int index = i;
+                    if (offloaded == null) {
+                        offloaded = new ArrayList<>();
+                    }
+                    elsewhere[i] = true;
+                    offloaded.add(CompletableFuture.runAsync(() -> problems[index] = check(index, order),
+                            diagnosisExecutor));
+                }
+            }
+        }
+        for (int i = 0; i < handlers.length; i++) {
+            if (!elsewhere[i]) {
+                problems[i] = check(i, order);
+            }
+        }
+        if (offloaded != null) {
+            // join() also makes the tasks' writes to problems visible here
+            CompletableFuture.allOf(offloaded.toArray(new CompletableFuture<?>[0])).join();
+        }
+
+        List<ValidationFailure> failures = new ArrayList<>();
+        for (int i = 0; i < handlers.length; i++) {
+            if (problems[i] != null) {
+                failures.add(new ValidationFailure(handlers[i].handlerName, problems[i]));
+            }
+        }
+        return new ValidationReport(order.getOrderId(), handlers.length, failures, System.nanoTime() - start);
+    }
+
+    private boolean isWorthOffloading(int index) {
+        return handlers[index].runsConcurrently() || diagnosisStats[index].quietNanos > OFFLOAD_ABOVE_NANOS;
+    }
+
+    private String check(int index, OrderSnapshot order) {
+        OrderValidationHandler handler = handlers[index];
+        long start = System.nanoTime();
+        String problem;
+        try {
+            problem = handler.findProblem(order);
+        } catch (RuntimeException e) {
+            problem = "Check could not run: " + e.getMessage();
+        }
+        long elapsed = System.nanoTime() - start;
+        diagnosisStats[index].record(elapsed, problem == null);
+        diagnosisStats[index].recordQuiet(elapsed);
+        return problem;
+    }
+
+    // ============ ADAPTIVE ORDERING ============
+
+    private synchronized void reorder() {
+        double[] scores = new double[handlers.length];
+        Integer[] candidates = new Integer[handlers.length];
+        for (int i = 0; i < handlers.length; i++) {
+            scores[i] = score(i);
+            candidates[i] = i;
+        }
+        // Stable sort: handlers without enough data or rejections keep their wired order
+        Arrays.sort(candidates, (a, b) -> Double.compare(scores[a], scores[b]));
+
+        int[] updated = new int[handlers.length];
+        for (int i = 0; i < updated.length; i++) {
+            updated[i] = candidates[i];
+        }
+        if (!Arrays.equals(updated, order)) {
+            order = updated;
+        }
+    }
+
+    private double score(int index) {
+        long invocations = stats[index].invocations.sum();
+        long rejections = stats[index].rejections.sum();
+        if (invocations < MIN_SAMPLES || rejections == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double averageNanos = (double) stats[index].nanos.sum() / invocations;
+        return averageNanos / ((double) rejections / invocations);
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    // ============ METRICS ============
+
+    // One entry per handler, in the current run order
+    public List<HandlerMetrics> getMetrics() {
+        return metrics(stats, order);
+    }
+
+    // diagnose() runs only, one entry per handler in wired order
+    public List<HandlerMetrics> getDiagnosisMetrics() {
+        int[] wired = new int[handlers.length];
+        for (int i = 0; i < wired.length; i++) {
+            wired[i] = i;
+        }
+        return metrics(diagnosisStats, wired);
+    }
+
+    private List<HandlerMetrics> metrics(Stats[] source, int[] runOrder) {
+        List<HandlerMetrics> metrics = new ArrayList<>(runOrder.length);
+        for (int position = 0; position < runOrder.length; position++) {
+            int index = runOrder[position];
+            metrics.add(new HandlerMetrics(handlers[index].handlerName, position,
+                    source[index].invocations.sum(), source[index].rejections.sum(), source[index].nanos.sum()));
+        }
+        return metrics;
+    }
+
+    public void displayMetrics() {
+        System.out.println("\n[Validation Chain" + (adaptive ? " - adaptive" : "") + "]");
+        for (HandlerMetrics metrics : getMetrics()) {
+            System.out.println(" " + metrics);
+        }
+        if (diagnosisStats[0].invocations.sum() > 0) {
+            System.out.println(" Full diagnoses:");
+            for (HandlerMetrics metrics : getDiagnosisMetrics()) {
+                System.out.println(" " + metrics);
+            }
+        }
+    }
+
+    // LongAdders: every register validates through the same chain
+    private static final class Stats {
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder rejections = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        // Moving average of findProblem() alone - validate() times include console output,
+        // and the first calls include class loading, neither of which offloading would help
+        private volatile long quietNanos = -1;
+
+        private void record(long elapsedNanos, boolean passed) {
+            invocations.increment();
+            nanos.add(elapsedNanos);
+            if (!passed) {
+                rejections.increment();
+            }
+        }
+
+        // Unsynchronised: a lost update between registers only delays the average a little
+        private void recordQuiet(long elapsedNanos) {
+            long current = quietNanos;
+            quietNanos = current < 0 ? elapsedNanos : current + (elapsedNanos - current) / 8;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package domain.chainOfResponsability;
+
+public final class ValidationFailure {
+    private final String handlerName;
+    private final String reason;
+
+    ValidationFailure(String handlerName, String reason) {
+        this.handlerName = handlerName;
+        this.reason = reason;
+    }
+
+    public String getHandlerName() { return handlerName; }
+    public String getReason() { return reason; }
+
+    @Override
+    public String toString() {
+        return handlerName + ": " + reason;
+    }
+}
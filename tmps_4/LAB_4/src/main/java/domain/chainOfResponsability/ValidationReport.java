@@ -0,0 +1,43 @@
+package domain.chainOfResponsability;
+
+import java.util.Collections;
+import java.util.List;
+
+// Every problem with an order at once, so the cashier can fix them all in one go
+public final class ValidationReport {
+    private final String orderId;
+    private final int handlersRun;
+    private final List<ValidationFailure> failures;
+    private final long elapsedNanos;
+
+    ValidationReport(String orderId, int handlersRun, List<ValidationFailure> failures, long elapsedNanos) {
+        this.orderId = orderId;
+        this.handlersRun = handlersRun;
+        this.failures = Collections.unmodifiableList(failures);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getOrderId() { return orderId; }
+    public int getHandlersRun() { return handlersRun; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    // In chain order
+    public List<ValidationFailure> getFailures() { return failures; }
+
+    public boolean isValid() {
+        return failures.isEmpty();
+    }
+
+    public void display() {
+        System.out.println("\n[Validation Report - Order " + orderId + "]");
+        if (isValid()) {
+            System.out.println("   ✓ All " + handlersRun + " checks passed");
+        } else {
+            System.out.println("   ✗ " + failures.size() + " of " + handlersRun + " checks failed:");
+            for (ValidationFailure failure : failures) {
+                System.out.println("    - " + failure);
+            }
+        }
+        System.out.printf("   (%.2f ms)%n", elapsedNanos / 1e6);
+    }
+}
@@ -1,30 +1,51 @@
 package domain.chainOfResponsability;
 
 
-import domain.models.Order;
-import java.time.LocalTime;
+import domain.calendar.BusinessCalendar;
+import domain.factory.CoffeeShopConfig;
+import domain.models.OrderSnapshot;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
 
 public class WorkingHoursHandler extends OrderValidationHandler {
-    private LocalTime openTime;
-    private LocalTime closeTime;
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("EEE HH:mm", Locale.ENGLISH);
+
+    // null = follow CoffeeShopConfig, so changing the store's calendar takes effect right away
+    private final BusinessCalendar calendar;
 
     public WorkingHoursHandler() {
+        this(null);
+    }
+
+    public WorkingHoursHandler(BusinessCalendar calendar) {
         super("Working Hours Check");
-        this.openTime = LocalTime.of(0, 0);
-        this.closeTime = LocalTime.of(23, 58);
+        this.calendar = calendar;
+    }
+
+    private BusinessCalendar calendar() {
+        return calendar != null ? calendar : CoffeeShopConfig.getInstance().getBusinessCalendar();
     }
 
     @Override
-    protected boolean doValidation(Order order) {
-        LocalTime now = LocalTime.now();
-        boolean isOpen = now.isAfter(openTime) && now.isBefore(closeTime);
-
-        if (!isOpen) {
-            System.out.println("    Shop is closed!");
-            System.out.println("   Working hours: " + openTime + " - " + closeTime);
-            System.out.println("   Current time: " + now);
+    protected String findProblem(OrderSnapshot order) {
+        BusinessCalendar current = calendar();
+        if (current.isOpen()) {
+            return null;
         }
+        LocalDateTime now = current.now();
+        return "Shop is closed: today's hours " + current.describeHours(now.toLocalDate())
+                + ", current time " + now.format(TIME);
+    }
 
-        return isOpen;
+    @Override
+    protected boolean doValidation(OrderSnapshot order) {
+        String problem = findProblem(order);
+        if (problem != null) {
+            System.out.println("    " + problem);
+            return false;
+        }
+        return true;
     }
-}
\ No newline at end of file
+}
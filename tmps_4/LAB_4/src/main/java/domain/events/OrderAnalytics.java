@@ -0,0 +1,142 @@
+package domain.events;
+
+import domain.models.enums.OrderStatus;
+import domain.pricing.Money;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Event bus consumer that keeps running totals. Only the consumer thread writes; the atomic
+// arrays just make the figures safe to read from the console thread.
+public class OrderAnalytics implements OrderEventHandler {
+    private final AtomicLongArray eventCounts = new AtomicLongArray(OrderEventType.COUNT);
+    private final AtomicLongArray statusCounts = new AtomicLongArray(OrderStatus.COUNT);
+
+    // [0] revenue in cents, [1] items sold, [2] sum of CREATED -> PAID nanos, [3] orders timed
+    private final AtomicLongArray totals = new AtomicLongArray(4);
+
+    // CREATED timestamps of orders not paid or abandoned yet, in a fixed open-addressed table
+    // so the consumer never allocates
+    private static final int OPEN_ORDERS = 1024;
+    private final String[] openIds = new String[OPEN_ORDERS];
+    private final long[] openCreatedAt = new long[OPEN_ORDERS];
+
+    @Override
+    public void onEvent(OrderEvent event, long sequence, boolean endOfBatch) {
+        eventCounts.incrementAndGet(event.getType().ordinal());
+
+        switch (event.getType()) {
+            case CREATED:
+                remember(event.getOrderId(), event.getTimestampNanos());
+                break;
+            case PAID:
+                totals.addAndGet(0, event.getAmountCents());
+                totals.addAndGet(1, event.getItemCount());
+                long createdAt = forget(event.getOrderId());
+                if (createdAt != 0) {
+                    totals.addAndGet(2, event.getTimestampNanos() - createdAt);
+                    totals.incrementAndGet(3);
+                }
+                break;
+            case ABANDONED:
+                forget(event.getOrderId());
+                break;
+            case STATUS_CHANGED:
+                statusCounts.incrementAndGet(event.getStatus().ordinal());
+                break;
+            default:
+                break;
+        }
+    }
+
+    // ============ OPEN ORDERS ============
+
+    private void remember(String orderId, long createdAt) {
+        int slot = slotFor(orderId);
+        for (int i = 0; i < OPEN_ORDERS; i++) {
+            int index = (slot + i) & (OPEN_ORDERS - 1);
+            if (openIds[index] == null || openIds[index].equals(orderId)) {
+                openIds[index] = orderId;
+                openCreatedAt[index] = createdAt;
+                return;
+            }
+        }
+        // More open orders than slots: this one takes over its home slot, so only the order
+        // that was there loses its timing. The slot stays occupied, so no probe run breaks.
+        openIds[slot] = orderId;
+        openCreatedAt[slot] = createdAt;
+    }
+
+    private long forget(String orderId) {
+        int slot = slotFor(orderId);
+        for (int i = 0; i < OPEN_ORDERS; i++) {
+            int index = (slot + i) & (OPEN_ORDERS - 1);
+            if (openIds[index] == null) {
+                return 0;
+            }
+            if (openIds[index].equals(orderId)) {
+                long createdAt = openCreatedAt[index];
+                removeAt(index);
+                return createdAt;
+            }
+        }
+        return 0;
+    }
+
+    // Backward-shift deletion keeps later entries of the same probe run reachable
+    private void removeAt(int index) {
+        int hole = index;
+        int next = (hole + 1) & (OPEN_ORDERS - 1);
+        while (openIds[next] != null) {
+            int home = slotFor(openIds[next]);
+            if (((next - home) & (OPEN_ORDERS - 1)) >= ((next - hole) & (OPEN_ORDERS - 1))) {
+                openIds[hole] = openIds[next];
+                openCreatedAt[hole] = openCreatedAt[next];
+                hole = next;
+            }
+            next = (next + 1) & (OPEN_ORDERS - 1);
+        }
+        openIds[hole] = null;
+    }
+
+    private static int slotFor(String orderId) {
+        int h = orderId.hashCode();
+        return (h ^ (h >>> 16)) & (OPEN_ORDERS - 1);
+    }
+
+    // ============ REPORT ============
+
+    public long getEventCount(OrderEventType type) {
+        return eventCounts.get(type.ordinal());
+    }
+
+    public long getStatusCount(OrderStatus status) {
+        return statusCounts.get(status.ordinal());
+    }
+
+    public long getRevenueCents() {
+        return totals.get(0);
+    }
+
+    public void displayReport() {
+        long paid = eventCounts.get(OrderEventType.PAID.ordinal());
+        System.out.println("\n" + "=".repeat(50));
+        System.out.println(" ORDER EVENT ANALYTICS");
+        System.out.println("=".repeat(50));
+        for (int i = 0; i < OrderEventType.COUNT; i++) {
+            System.out.printf(" %-18s %8d%n", OrderEventType.fromOrdinal(i), eventCounts.get(i));
+        }
+        System.out.println("-".repeat(50));
+        for (int i = 0; i < OrderStatus.COUNT; i++) {
+            System.out.printf(" -> %-15s %8d%n", OrderStatus.fromOrdinal(i), statusCounts.get(i));
+        }
+        System.out.println("-".repeat(50));
+        System.out.println(" Revenue: $" + Money.format(totals.get(0)) + " from " + paid + " paid orders");
+        if (paid > 0) {
+            System.out.printf(" Avg items per order: %.1f%n", (double) totals.get(1) / paid);
+        }
+        if (totals.get(3) > 0) {
+            System.out.printf(" Avg time from open to paid: %.1f s%n", totals.get(2) / 1e9 / totals.get(3));
+        }
+        System.out.println("=".repeat(50));
+    }
+}
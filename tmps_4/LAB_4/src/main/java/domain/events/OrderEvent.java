@@ -0,0 +1,38 @@
+package domain.events;
+
+import domain.models.enums.OrderStatus;
+
+// One preallocated ring slot. The bus overwrites it in place for every event published into
+// the slot, so handlers must copy out what they want to keep before returning.
+public final class OrderEvent {
+    private long sequence;
+    private OrderEventType type;
+    private String orderId;
+    private OrderStatus status;
+    private long amountCents;
+    private int itemCount;
+    private long timestampNanos;
+
+    void set(long sequence, OrderEventType type, String orderId, OrderStatus status,
+             long amountCents, int itemCount, long timestampNanos) {
+        this.sequence = sequence;
+        this.type = type;
+        this.orderId = orderId;
+        this.status = status;
+        this.amountCents = amountCents;
+        this.itemCount = itemCount;
+        this.timestampNanos = timestampNanos;
+    }
+
+    public long getSequence() { return sequence; }
+    public OrderEventType getType() { return type; }
+    public String getOrderId() { return orderId; }
+
+    // Only set on STATUS_CHANGED
+    public OrderStatus getStatus() { return status; }
+
+    // Order subtotal for line and validation events, amount charged for PAID
+    public long getAmountCents() { return amountCents; }
+    public int getItemCount() { return itemCount; }
+    public long getTimestampNanos() { return timestampNanos; }
+}
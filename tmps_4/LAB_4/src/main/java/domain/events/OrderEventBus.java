@@ -0,0 +1,256 @@
+package domain.events;
+
+import domain.models.enums.OrderStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+// Ring buffer of preallocated OrderEvent slots, Disruptor style. Publishers claim a sequence,
+// fill the slot in place and mark it available; each consumer runs on its own thread, reads
+// up to its sequence barrier at its own pace and records how far it got. Publishers wait for
+// the slowest consumer before reusing a slot, so nothing is dropped and nothing is allocated
+// once the bus is running.
+public class OrderEventBus {
+    private final OrderEvent[] ring;
+    private final int mask;
+
+    // Highest sequence handed out to a publisher
+    private final AtomicLong claimed = new AtomicLong(-1);
+
+    // Sequence last published into each slot; a consumer only reads a slot once it matches
+    private final AtomicLongArray published;
+
+    // Last known minimum of the consumer sequences, so publishers rarely scan them all
+    private final AtomicLong cachedGate = new AtomicLong(-1);
+
+    private final List<EventConsumer> consumers = new ArrayList<>();
+    private volatile EventConsumer[] gating = new EventConsumer[0];
+    private volatile boolean running;
+
+    public OrderEventBus(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.ring = new OrderEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new OrderEvent();
+        }
+        this.mask = capacity - 1;
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    // ============ CONSUMERS ============
+
+    // Consumers must be added before start(). dependsOn makes this consumer trail the given
+    // ones, so it only sees an event after they have all handled it.
+    public synchronized EventConsumer addConsumer(String name, OrderEventHandler handler,
+                                                 EventConsumer... dependsOn) {
+        if (running) {
+            throw new IllegalStateException("Cannot add consumer " + name + " to a running event bus");
+        }
+        EventConsumer consumer = new EventConsumer(name, handler, dependsOn);
+        consumers.add(consumer);
+        return consumer;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        gating = consumers.toArray(new EventConsumer[0]);
+        // Consumers begin with the next event, not with whatever was published before they ran
+        long startAt = claimed.get();
+        for (EventConsumer consumer : gating) {
+            consumer.sequence.set(startAt);
+        }
+        cachedGate.set(startAt);
+        running = true;
+        for (EventConsumer consumer : gating) {
+            consumer.start();
+        }
+    }
+
+    // Lets every consumer catch up with what was published, then stops the threads
+    public void shutdown() {
+        EventConsumer[] current;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            current = gating;
+        }
+        for (EventConsumer consumer : current) {
+            consumer.join();
+        }
+    }
+
+    // ============ PUBLISH ============
+
+    public long publish(OrderEventType type, String orderId, long amountCents, int itemCount) {
+        return publish(type, orderId, null, amountCents, itemCount);
+    }
+
+    public long publish(OrderEventType type, String orderId, OrderStatus status, long amountCents, int itemCount) {
+        long sequence = claimed.incrementAndGet();
+        awaitFreeSlot(sequence);
+
+        int index = (int) sequence & mask;
+        ring[index].set(sequence, type, orderId, status, amountCents, itemCount, System.nanoTime());
+        published.set(index, sequence);
+        return sequence;
+    }
+
+    // Slot `sequence` last held sequence - capacity; every consumer must be past it
+    private void awaitFreeSlot(long sequence) {
+        long wrapPoint = sequence - ring.length;
+        if (wrapPoint <= cachedGate.get()) {
+            return;
+        }
+        long gate;
+        while (wrapPoint > (gate = minimumConsumerSequence(sequence))) {
+            LockSupport.parkNanos(1_000);
+        }
+        cachedGate.set(gate);
+    }
+
+    private long minimumConsumerSequence(long fallback) {
+        long minimum = fallback;
+        for (EventConsumer consumer : gating) {
+            minimum = Math.min(minimum, consumer.getSequence());
+        }
+        return minimum;
+    }
+
+    // Returns once every consumer has handled every event published so far
+    public void awaitConsumed() throws InterruptedException {
+        long target = claimed.get();
+        for (EventConsumer consumer : gating) {
+            while (consumer.getSequence() < target && consumer.isAlive()) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                LockSupport.parkNanos(100_000);
+            }
+        }
+    }
+
+    public long getPublishedCount() {
+        return claimed.get() + 1;
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    // ============ SEQUENCE BARRIER ============
+
+    // Highest sequence from `next` on that this consumer may read: published without gaps
+    // and already handled by every consumer it depends on. Below `next` if nothing is ready.
+    private long availableFrom(long next, EventConsumer[] dependsOn) {
+        long highest = claimed.get();
+        long sequence = next;
+        while (sequence <= highest && published.get((int) sequence & mask) == sequence) {
+            sequence++;
+        }
+        long available = sequence - 1;
+        for (EventConsumer dependency : dependsOn) {
+            available = Math.min(available, dependency.getSequence());
+        }
+        return available;
+    }
+
+    public final class EventConsumer implements Runnable {
+        private static final int SPIN_TRIES = 100;
+        private static final int YIELD_TRIES = 200;
+        private static final long PARK_NANOS = 50_000;
+
+        private final String name;
+        private final OrderEventHandler handler;
+        private final EventConsumer[] dependsOn;
+        private final AtomicLong sequence = new AtomicLong(-1);
+        private final Thread thread;
+        private volatile long failures;
+
+        private EventConsumer(String name, OrderEventHandler handler, EventConsumer[] dependsOn) {
+            this.name = name;
+            this.handler = handler;
+            this.dependsOn = dependsOn.clone();
+            this.thread = new Thread(this, "order-events-" + name);
+            thread.setDaemon(true);
+        }
+
+        private void start() {
+            thread.start();
+        }
+
+        private void join() {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            long next = sequence.get() + 1;
+            int idle = 0;
+            while (true) {
+                long available = availableFrom(next, dependsOn);
+                if (available < next) {
+                    if (!running && next > claimed.get()) {
+                        return;
+                    }
+                    idle = backOff(idle);
+                    continue;
+                }
+                idle = 0;
+
+                for (long s = next; s <= available; s++) {
+                    try {
+                        handler.onEvent(ring[(int) s & mask], s, s == available);
+                    } catch (RuntimeException e) {
+                        // One bad event must not stall the ring for everyone else
+                        failures++;
+                        System.out.println(" Event consumer " + name + " failed on event " + s + ": " + e.getMessage());
+                    }
+                }
+                sequence.set(available);
+                next = available + 1;
+            }
+        }
+
+        // Spin, then yield, then park, so an idle consumer does not hold a core
+        private int backOff(int idle) {
+            if (idle < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (idle < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+                return idle;
+            }
+            return idle + 1;
+        }
+
+        public String getName() { return name; }
+        public long getSequence() { return sequence.get(); }
+        public long getFailures() { return failures; }
+
+        // Events published but not yet handled by this consumer
+        public long getLag() {
+            return claimed.get() - sequence.get();
+        }
+
+        private boolean isAlive() {
+            return thread.isAlive();
+        }
+    }
+}
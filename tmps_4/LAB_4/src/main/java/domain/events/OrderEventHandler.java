@@ -0,0 +1,6 @@
+package domain.events;
+
+public interface OrderEventHandler {
+    // endOfBatch is true for the last event currently available, a good point to flush
+    void onEvent(OrderEvent event, long sequence, boolean endOfBatch);
+}
@@ -0,0 +1,20 @@
+package domain.events;
+
+public enum OrderEventType {
+    CREATED,
+    LINE_ADDED,
+    LINE_REMOVED,
+    VALIDATED,
+    VALIDATION_FAILED,
+    PAID,
+    // Session closed without paying, e.g. the cart was cleared
+    ABANDONED,
+    STATUS_CHANGED;
+
+    private static final OrderEventType[] VALUES = values();
+    public static final int COUNT = VALUES.length;
+
+    public static OrderEventType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,95 @@
+package domain.facade;
+
+import domain.models.enums.OrderStatus;
+import domain.observer.publisher.OrderSubject;
+
+import java.util.Arrays;
+
+// Time-in-state samples from finished orders. Spans are keyed by the (from, to) ordinal pair,
+// each keeping its most recent MAX_SAMPLES durations for percentile reporting.
+public class LifecycleLatencyStats {
+    private static final int MAX_SAMPLES = 4096;
+
+    private final SampleRing[] spans;
+
+    public LifecycleLatencyStats() {
+        this.spans = new SampleRing[OrderStatus.COUNT * OrderStatus.COUNT];
+    }
+
+    // Called once an order reaches COMPLETED
+    void recordOrder(OrderSubject orderSubject) {
+        record(orderSubject, OrderStatus.CONFIRMED, OrderStatus.READY);
+        record(orderSubject, OrderStatus.READY, OrderStatus.COMPLETED);
+        record(orderSubject, OrderStatus.CONFIRMED, OrderStatus.COMPLETED);
+    }
+
+    private void record(OrderSubject orderSubject, OrderStatus from, OrderStatus to) {
+        long nanos = orderSubject.getNanosBetween(from, to);
+        if (nanos >= 0) {
+            ring(from, to).add(nanos);
+        }
+    }
+
+    private synchronized SampleRing ring(OrderStatus from, OrderStatus to) {
+        int index = from.ordinal() * OrderStatus.COUNT + to.ordinal();
+        if (spans[index] == null) {
+            spans[index] = new SampleRing();
+        }
+        return spans[index];
+    }
+
+    public int getSampleCount(OrderStatus from, OrderStatus to) {
+        return ring(from, to).size();
+    }
+
+    // Nearest-rank percentile (0-100) of the span, or -1 when nothing was recorded
+    public long percentileNanos(OrderStatus from, OrderStatus to, double percentile) {
+        long[] sorted = ring(from, to).sortedCopy();
+        if (sorted.length == 0) {
+            return -1;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    public void displayReport() {
+        System.out.println("\n[Order Lifecycle Latency]");
+        displaySpan(OrderStatus.CONFIRMED, OrderStatus.READY);
+        displaySpan(OrderStatus.READY, OrderStatus.COMPLETED);
+        displaySpan(OrderStatus.CONFIRMED, OrderStatus.COMPLETED);
+    }
+
+    private void displaySpan(OrderStatus from, OrderStatus to) {
+        int count = getSampleCount(from, to);
+        if (count == 0) {
+            System.out.printf(" %-22s no orders yet%n", from + " → " + to);
+            return;
+        }
+        System.out.printf(" %-22s p50 %8.1f ms  p90 %8.1f ms  p99 %8.1f ms  (%d orders)%n",
+                from + " → " + to,
+                percentileNanos(from, to, 50) / 1e6,
+                percentileNanos(from, to, 90) / 1e6,
+                percentileNanos(from, to, 99) / 1e6,
+                count);
+    }
+
+    private static final class SampleRing {
+        private final long[] samples = new long[MAX_SAMPLES];
+        private long recorded;
+
+        synchronized void add(long nanos) {
+            samples[(int) (recorded % MAX_SAMPLES)] = nanos;
+            recorded++;
+        }
+
+        synchronized int size() {
+            return (int) Math.min(recorded, MAX_SAMPLES);
+        }
+
+        synchronized long[] sortedCopy() {
+            long[] copy = Arrays.copyOf(samples, size());
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -2,7 +2,7 @@ package domain.facade;
 
 import domain.builder.Builder;
 import domain.builder.CoffeeBuilder;
-import domain.chainOfResponsability.*;
+import domain.chainOfResponsability.ValidationReport;
 import domain.factory.*;
 import domain.models.Coffee;
 import domain.models.enums.Size;
@@ -16,99 +16,89 @@ import domain.models.food.bridge.HouseMadeSource;
 import domain.models.food.bridge.VendorSource;
 import domain.models.decorator.CaramelSauceDecorator;
 import domain.models.decorator.PistachioPasteDecorator;
-import domain.observer.publisher.OrderSubject;
-import domain.observer.subscribers.CustomerNotificationObserver;
-import domain.observer.subscribers.InventoryObserver;
-import domain.observer.subscribers.KitchenDisplayObserver;
+import domain.pricing.Money;
 import domain.strategy.CardPaymentStrategy;
 import domain.strategy.CashPaymentStrategy;
 import domain.strategy.MobilePaymentStrategy;
 import domain.strategy.PaymentStrategy;
-import domain.models.Order;
 import java.util.List;
 
 public class OrderFacade {
     private final CoffeeShopConfig config;
+    private final CoffeeFactoryRegistry coffeeFactories;
+    private final CoffeeSpecRegistry coffeeSpecs;
 
-    // Current order being built
-    private Order currentOrder;
+    // Shared by every facade (register / kiosk) in the JVM
+    private final OrderSessionManager sessionManager;
 
-    // Observer Pattern
-    private OrderSubject orderSubject;
+    // Current order being built on this terminal
+    private OrderSession currentSession;
 
-    // Chain of Responsibility
-    private OrderValidationHandler validationChain;
     public OrderFacade() {
+        this(OrderSessionManager.getInstance());
+    }
+
+    public OrderFacade(OrderSessionManager sessionManager) {
         this.config = CoffeeShopConfig.getInstance();
+        this.coffeeFactories = CoffeeFactoryRegistry.getInstance();
+        this.coffeeSpecs = CoffeeSpecRegistry.getInstance();
+        this.sessionManager = sessionManager;
         initializeNewOrder();
-        setupValidationChain();
     }
 
     private void initializeNewOrder() {
-        String orderId = generateOrderId();
-        this.currentOrder = new Order(orderId);
-        this.orderSubject = new OrderSubject();
-        setupObservers();
-    }
-
-    private void setupObservers() {
-        orderSubject.attach(new KitchenDisplayObserver("Main"));
-        orderSubject.attach(new CustomerNotificationObserver());
-        orderSubject.attach(new InventoryObserver(orderSubject));
-    }
-
-    private void setupValidationChain() {
-        // Create handlers
-        OrderValidationHandler emptyOrderHandler = new EmptyOrderHandler();
-        OrderValidationHandler workingHoursHandler = new WorkingHoursHandler();
-        OrderValidationHandler stockHandler = new StockAvailabilityHandler();
-        OrderValidationHandler minimumOrderHandler = new MinimumOrderHandler();
-
-        // Chain them together
-        emptyOrderHandler.setNext(workingHoursHandler);
-        workingHoursHandler.setNext(stockHandler);
-        stockHandler.setNext(minimumOrderHandler);
-
-        // Set the first handler as the chain entry point
-        validationChain = emptyOrderHandler;
-    }
-
-    private String generateOrderId() {
-        return "ORD-" + System.currentTimeMillis();
+        this.currentSession = sessionManager.openSession();
     }
 
     // ============ ORDER MANAGEMENT ============
 
     public void addDrinkToOrder(Coffee coffee) {
-        currentOrder.addDrink(coffee);
+        sessionManager.addDrink(currentSession.getOrderId(), coffee);
         System.out.println("" +
                 " Added to order: " + coffee.getDescription());
     }
 
     public void addFoodToOrder(Food food) {
-        currentOrder.addFood(food);
+        sessionManager.addFood(currentSession.getOrderId(), food);
         System.out.println(" Added to order: " + food.getDescription());
     }
 
+    public boolean removeDrinkFromOrder(Coffee coffee) {
+        boolean removed = sessionManager.removeDrink(currentSession.getOrderId(), coffee);
+        if (removed) {
+            System.out.println(" Removed from order: " + coffee.getDescription());
+        }
+        return removed;
+    }
+
+    public boolean removeFoodFromOrder(Food food) {
+        boolean removed = sessionManager.removeFood(currentSession.getOrderId(), food);
+        if (removed) {
+            System.out.println(" Removed from order: " + food.getDescription());
+        }
+        return removed;
+    }
+
     public void displayCurrentOrder() {
-        currentOrder.displayOrder();
+        currentSession.displayOrder();
     }
 
     public void clearCurrentOrder() {
         System.out.println("\n  Clearing order...");
+        sessionManager.closeSession(currentSession.getOrderId());
         initializeNewOrder();
     }
 
     public boolean isOrderEmpty() {
-        return currentOrder.isEmpty();
+        return currentSession.isEmpty();
     }
 
-    public double getCurrentOrderTotal() {
-        return currentOrder.getTotal();
+    public long getCurrentOrderTotalCents() {
+        return currentSession.getTotalCents();
     }
 
     public String getCurrentOrderId() {
-        return currentOrder.getOrderId();
+        return currentSession.getOrderId();
     }
 
 
@@ -175,53 +165,47 @@ public class OrderFacade {
     }
 
     private CoffeeFactory getFactoryForType(String type) {
-        return switch (type.toLowerCase()) {
-            case "espresso" -> new EspressoFactory();
-            case "americano" -> new AmericanoFactory();
-            case "cappuccino" -> new CappuccinoFactory();
-            case "latte" -> new LatteFactory();
-            default -> throw new IllegalArgumentException("Unsupported coffee type: " + type);
-        };
+        return coffeeFactories.getFactory(type);
+    }
+
+    public List<String> getCoffeeTypeNames() {
+        return coffeeFactories.getTypeNames();
+    }
+
+    public String getCoffeeDisplayName(String coffeeTypeName) {
+        return coffeeSpecs.get(coffeeTypeName).getName();
     }
 
     // ============ COFFEE TYPE RESTRICTIONS ============
 
     public int getMinShots(String coffeeTypeName) {
-        Coffee temp = createBaseCoffee(coffeeTypeName);
-        return temp.getMinShots();
+        return coffeeSpecs.get(coffeeTypeName).getMinShots();
     }
 
     public int getMaxShots(String coffeeTypeName) {
-        Coffee temp = createBaseCoffee(coffeeTypeName);
-        return temp.getMaxShots();
+        return coffeeSpecs.get(coffeeTypeName).getMaxShots();
     }
 
     public int getDefaultShots(String coffeeTypeName) {
-        Coffee temp = createBaseCoffee(coffeeTypeName);
-        return temp.getDefaultShots();
+        return coffeeSpecs.get(coffeeTypeName).getDefaultShots();
     }
 
     public boolean allowsMilk(String coffeeTypeName) {
-        Coffee temp = createBaseCoffee(coffeeTypeName);
-        return temp.allowsMilk();
+        return coffeeSpecs.get(coffeeTypeName).allowsMilk();
     }
 
     public boolean requiresMilk(String coffeeTypeName) {
-        Coffee temp = createBaseCoffee(coffeeTypeName);
-        return temp.requiresMilk();
+        return coffeeSpecs.get(coffeeTypeName).requiresMilk();
     }
 
     public boolean canBeIced(String coffeeTypeName) {
-        Coffee temp = createBaseCoffee(coffeeTypeName);
-        return temp.canBeIced();
+        return coffeeSpecs.get(coffeeTypeName).canBeIced();
     }
 
     // ============ PRICING INFORMATION ============
 
     public double getCoffeeBasePrice(String coffeeTypeName) {
-        CoffeeFactory factory = getFactoryForType(coffeeTypeName);
-        Coffee temp = factory.createCoffee();
-        return temp.getBasePrice();
+        return coffeeSpecs.get(coffeeTypeName).getBasePrice();
     }
 
     public double getSizePrice(Size size) {
@@ -276,6 +260,10 @@ public class OrderFacade {
         config.setTaxRate(taxRate);
     }
 
+    public void setShotPrice(double shotPrice) {
+        config.setShotPrice(shotPrice);
+    }
+
     // ============ LOYALTY PROGRAM OPERATIONS ============
 
     public boolean isMember(String phoneNumber) {
@@ -286,8 +274,8 @@ public class OrderFacade {
         config.addMember(phoneNumber);
     }
 
-    public double applyLoyaltyDiscount(double price) {
-        return config.applyLoyaltyDiscount(price);
+    public long applyLoyaltyDiscount(long priceCents) {
+        return config.applyLoyaltyDiscount(priceCents);
     }
 
     public void displayLoyaltyInfo() {
@@ -296,8 +284,12 @@ public class OrderFacade {
 
     // ============ PRICE CALCULATIONS ============
 
-    public double[] calculateFinalPrice(double price) {
-        return config.calculateFinalPrice(price);
+    public long calculateTax(long priceCents) {
+        return config.calculateTax(priceCents);
+    }
+
+    public long calculateFinalPrice(long priceCents) {
+        return config.calculateFinalPrice(priceCents);
     }
 
     // ============ FOOD CREATION (BRIDGE) ============
@@ -342,58 +334,47 @@ public class OrderFacade {
 
     // ============ PAYMENT (STRATEGY) ============
 
-    public String payWithCash(double amount, double cashTendered) {
+    public String payWithCash(long amountCents, long cashTenderedCents) {
 
-        return processPayment(amount, new CashPaymentStrategy(cashTendered));
+        return processPayment(amountCents, new CashPaymentStrategy(cashTenderedCents));
 
     }
 
-    public String payWithCard(double amount,
+    public String payWithCard(long amountCents,
                               String cardNumber,
                               String cardHolderName,
                               String cvv,
                               String expiryDate) {
 
-        return processPayment(amount,
+        return processPayment(amountCents,
                 new CardPaymentStrategy(cardNumber, cardHolderName, cvv, expiryDate));
 
     }
 
-    public String payWithMobile(double amount,
+    public String payWithMobile(long amountCents,
                                 String phoneNumber,
                                 String provider,
                                 String deviceId) {
-        return processPayment(amount,
+        return processPayment(amountCents,
                 new MobilePaymentStrategy(phoneNumber, provider, deviceId));
     }
 
 
-    private String processPayment(double amount, PaymentStrategy paymentStrategy) {
+    private String processPayment(long amountCents, PaymentStrategy paymentStrategy) {
         System.out.println("\n" + "=".repeat(50));
         System.out.println("           PROCESSING PAYMENT");
         System.out.println("=".repeat(50));
-        System.out.println("Order ID: " + currentOrder.getOrderId());
-        System.out.println("Total Amount: $" + String.format("%.2f", amount));
+        System.out.println("Order ID: " + currentSession.getOrderId());
+        System.out.println("Total Amount: $" + Money.format(amountCents));
         System.out.println("Payment Method: " + paymentStrategy.getPaymentMethodName());
         System.out.println("=".repeat(50));
 
-        // STRATEGY PATTERN
-        if (!paymentStrategy.processPayment(amount)) {
+        String receipt = sessionManager.pay(currentSession.getOrderId(), amountCents, paymentStrategy);
+        if (receipt == null) {
             System.out.println("\n Payment processing failed!");
             return null;
         }
 
-        String receipt = paymentStrategy.getPaymentReceipt(amount);
-        System.out.println(receipt);
-
-        // OBSERVER PATTERN - notify after successful payment
-        System.out.println("\n" + "=".repeat(50));
-        System.out.println("           NOTIFYING OBSERVERS");
-        System.out.println("=".repeat(50));
-
-        orderSubject.setStatus("CONFIRMED", currentOrder);
-        simulateOrderPreparation();
-
         System.out.println("\n Thank you for your order!");
 
         // Clear order after successful payment
@@ -403,19 +384,40 @@ public class OrderFacade {
     }
 
     // =========== OBSERVER ============
-    private void simulateOrderPreparation() {
-        try {
-            Thread.sleep(1000);
-            orderSubject.setStatus("PREPARING", currentOrder);
 
-            Thread.sleep(2000);
-            orderSubject.setStatus("READY", currentOrder);
+    public void awaitPendingOrders() {
+        sessionManager.awaitPendingOrders();
+    }
+
+    public void displayLifecycleLatencies() {
+        sessionManager.getLatencyStats().displayReport();
+    }
 
-            Thread.sleep(1000);
-            orderSubject.setStatus("COMPLETED", currentOrder);
+    // Waits for the analytics consumer to catch up, so the figures include this order
+    public void displayOrderAnalytics() {
+        try {
+            sessionManager.getEventBus().awaitConsumed();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
+        sessionManager.getAnalytics().displayReport();
+    }
+
+    // Lists every problem instead of stopping at the first; validateOrder() is still the gate
+    public ValidationReport diagnoseOrder() {
+        ValidationReport report = sessionManager.diagnose(currentSession.getOrderId());
+        report.display();
+        return report;
+    }
+
+    public void displayValidationMetrics() {
+        sessionManager.getValidationChain().displayMetrics();
+    }
+
+    public void displayKitchenStats() {
+        if (sessionManager.getKitchen() != null) {
+            sessionManager.getKitchen().displayStats();
+        }
     }
 
     //=========== CHAIN OF RESPONSABILITY ============
@@ -426,7 +428,7 @@ public class OrderFacade {
         System.out.println("=".repeat(50));
 
 
-        boolean isValid = validationChain.validate(currentOrder);
+        boolean isValid = sessionManager.validate(currentSession.getOrderId());
 
         if (!isValid) {
             System.out.println("\n Validation failed!");
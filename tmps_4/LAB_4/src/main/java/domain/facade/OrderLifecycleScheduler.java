@@ -0,0 +1,150 @@
+package domain.facade;
+
+import domain.kitchen.KitchenDispatcher;
+import domain.models.OrderSnapshot;
+import domain.models.enums.OrderStatus;
+import domain.observer.publisher.OrderSubject;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Walks confirmed orders through PREPARING -> READY -> COMPLETED on a shared timer,
+// so the paying thread returns as soon as the order is confirmed. With a kitchen attached,
+// READY waits for the baristas to actually finish the order instead of a fixed delay.
+public class OrderLifecycleScheduler {
+    private static final OrderStatus[] STAGES = {OrderStatus.PREPARING, OrderStatus.READY, OrderStatus.COMPLETED};
+    private static final long[] STAGE_DELAYS_MS = {1000, 2000, 1000};
+
+    private final ScheduledExecutorService executor;
+    private final LifecycleLatencyStats latencyStats;
+    private final KitchenDispatcher kitchen;
+
+    // Three baristas; one shop minute passes in two real seconds
+    private static final int DEFAULT_BARISTAS = 3;
+    private static final double DEFAULT_KITCHEN_SPEEDUP = 30.0;
+    private int ordersInFlight;
+
+    public OrderLifecycleScheduler() {
+        this(Runtime.getRuntime().availableProcessors(),
+                new KitchenDispatcher(DEFAULT_BARISTAS, DEFAULT_KITCHEN_SPEEDUP));
+    }
+
+    public OrderLifecycleScheduler(int threads) {
+        this(threads, null);
+    }
+
+    public OrderLifecycleScheduler(int threads, KitchenDispatcher kitchen) {
+        this.executor = Executors.newScheduledThreadPool(threads, new LifecycleThreadFactory());
+        this.kitchen = kitchen;
+        this.latencyStats = new LifecycleLatencyStats();
+    }
+
+    public void startPreparation(OrderSubject orderSubject, OrderSnapshot order) {
+        synchronized (this) {
+            ordersInFlight++;
+        }
+        scheduleStage(orderSubject, order, 0);
+    }
+
+    // Every path either reaches advance() or abandons the order, so ordersInFlight always drops
+    private void scheduleStage(OrderSubject orderSubject, OrderSnapshot order, int stage) {
+        try {
+            if (kitchen != null && STAGES[stage] == OrderStatus.READY) {
+                kitchen.submit(order).whenComplete((ignored, failure) -> {
+                    if (failure != null) {
+                        abandon(order, "kitchen could not finish it", failure);
+                        return;
+                    }
+                    // Back onto a lifecycle thread, so baristas never run observer code
+                    try {
+                        executor.execute(() -> advance(orderSubject, order, stage));
+                    } catch (RejectedExecutionException e) {
+                        abandon(order, "scheduler is shut down", e);
+                    }
+                });
+                return;
+            }
+            executor.schedule(() -> advance(orderSubject, order, stage),
+                    STAGE_DELAYS_MS[stage], TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            abandon(order, "scheduler is shut down", e);
+        }
+    }
+
+    private void abandon(OrderSnapshot order, String reason, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        System.out.println(" Lifecycle of order " + order.getOrderId() + " aborted: " + reason
+                + " (" + cause + ")");
+        orderFinished();
+    }
+
+    private void advance(OrderSubject orderSubject, OrderSnapshot order, int stage) {
+        boolean finished = stage == STAGES.length - 1;
+        try {
+            orderSubject.setStatus(STAGES[stage], order);
+            if (finished) {
+                latencyStats.recordOrder(orderSubject);
+            }
+        } catch (RuntimeException e) {
+            System.out.println(" Lifecycle of order " + order.getOrderId() + " aborted: " + e.getMessage());
+            finished = true;
+        }
+
+        if (finished) {
+            // Observers may still be working through their queues; the order is done when they are
+            orderSubject.whenDelivered(this::orderFinished);
+        } else {
+            scheduleStage(orderSubject, order, stage + 1);
+        }
+    }
+
+    private synchronized void orderFinished() {
+        ordersInFlight--;
+        if (ordersInFlight == 0) {
+            notifyAll();
+        }
+    }
+
+    public KitchenDispatcher getKitchen() {
+        return kitchen;
+    }
+
+    public LifecycleLatencyStats getLatencyStats() {
+        return latencyStats;
+    }
+
+    public synchronized int getOrdersInFlight() {
+        return ordersInFlight;
+    }
+
+    // Blocks until every confirmed order has reached COMPLETED
+    public synchronized void awaitIdle() throws InterruptedException {
+        while (ordersInFlight > 0) {
+            wait();
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+        if (kitchen != null) {
+            kitchen.shutdown();
+        }
+    }
+
+    private static class LifecycleThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "order-lifecycle-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package domain.facade;
+
+import domain.models.Coffee;
+import domain.models.Order;
+import domain.models.OrderSnapshot;
+import domain.models.food.Food;
+import domain.observer.publisher.OrderSubject;
+
+// One in-flight order. The session itself is the lock, so two sessions never contend.
+public class OrderSession {
+    private final Order order;
+    private final OrderSubject orderSubject;
+
+    // The snapshot the current stock hold was taken for; any later edit invalidates it
+    private OrderSnapshot reservedSnapshot;
+
+    OrderSession(Order order, OrderSubject orderSubject) {
+        this.order = order;
+        this.orderSubject = orderSubject;
+    }
+
+    public synchronized void addDrink(Coffee drink) {
+        order.addDrink(drink);
+    }
+
+    public synchronized void addFood(Food food) {
+        order.addFood(food);
+    }
+
+    public synchronized boolean removeDrink(Coffee drink) {
+        return order.removeDrink(drink);
+    }
+
+    public synchronized boolean removeFood(Food food) {
+        return order.removeFood(food);
+    }
+
+    public synchronized boolean isEmpty() {
+        return order.isEmpty();
+    }
+
+    public synchronized long getTotalCents() {
+        return order.getTotalCents();
+    }
+
+    public synchronized void displayOrder() {
+        order.displayOrder();
+    }
+
+    public String getOrderId() {
+        return order.getOrderId();
+    }
+
+    Order getOrder() {
+        return order;
+    }
+
+    OrderSubject getOrderSubject() {
+        return orderSubject;
+    }
+
+    OrderSnapshot getReservedSnapshot() {
+        return reservedSnapshot;
+    }
+
+    void setReservedSnapshot(OrderSnapshot reservedSnapshot) {
+        this.reservedSnapshot = reservedSnapshot;
+    }
+}
@@ -0,0 +1,335 @@
+package domain.facade;
+
+import domain.chainOfResponsability.*;
+import domain.events.OrderAnalytics;
+import domain.events.OrderEventBus;
+import domain.events.OrderEventType;
+import domain.id.IdGenerator;
+import domain.kitchen.KitchenDispatcher;
+import domain.models.Coffee;
+import domain.models.Order;
+import domain.models.OrderSnapshot;
+import domain.models.enums.OrderStatus;
+import domain.models.food.Food;
+import domain.models.inventory.InventoryManager;
+import domain.models.inventory.StockDemand;
+import domain.observer.publisher.BackpressurePolicy;
+import domain.observer.publisher.ObserverPipeline;
+import domain.observer.publisher.OrderSubject;
+import domain.observer.subscribers.CustomerNotificationObserver;
+import domain.observer.subscribers.InventoryObserver;
+import domain.observer.subscribers.KitchenDisplayObserver;
+import domain.strategy.PaymentStrategy;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OrderSessionManager {
+    private static volatile OrderSessionManager instance;
+
+    // In-flight orders keyed by order ID, shared by every register / kiosk
+    private final ConcurrentMap<String, OrderSession> sessions;
+    private final IdGenerator idGenerator;
+
+    // Chain of Responsibility - handlers are stateless, so one chain serves all sessions.
+    // -Dcoffeeshop.adaptiveValidation=true lets it move cheap, often-failing checks first.
+    private static final String ADAPTIVE_VALIDATION_PROPERTY = "coffeeshop.adaptiveValidation";
+    private final ValidationChain validationChain;
+
+    // Checks waiting for a validation thread; beyond this the register runs them itself
+    private static final int VALIDATION_QUEUE_CAPACITY = 64;
+
+    private final OrderLifecycleScheduler lifecycleScheduler;
+    private final InventoryManager inventoryManager;
+
+    // Observers run off the paying thread; a slow one fills its own queue, not checkout
+    private static final int OBSERVER_QUEUE_CAPACITY = 16;
+    private final ExecutorService observerExecutor;
+
+    // Attached once for the whole process and shared by every order
+    private final ObserverPipeline observerPipeline;
+
+    // Every lifecycle event of every order, for consumers that read at their own pace
+    private static final int EVENT_BUS_CAPACITY = 1024;
+    private final OrderEventBus eventBus;
+    private final OrderAnalytics analytics;
+
+    public OrderSessionManager() {
+        this(new OrderLifecycleScheduler());
+    }
+
+    public OrderSessionManager(OrderLifecycleScheduler lifecycleScheduler) {
+        this.sessions = new ConcurrentHashMap<>();
+        this.idGenerator = IdGenerator.getInstance();
+        this.validationChain = setupValidationChain();
+        this.lifecycleScheduler = lifecycleScheduler;
+        this.inventoryManager = InventoryManager.getInstance();
+        this.observerExecutor = createObserverExecutor();
+        this.observerPipeline = createObserverPipeline(observerExecutor);
+        this.analytics = new OrderAnalytics();
+        this.eventBus = new OrderEventBus(EVENT_BUS_CAPACITY);
+        eventBus.addConsumer("analytics", analytics);
+        eventBus.start();
+    }
+
+    // Checks diagnose() runs off the register thread. One thread per core; when all are busy
+    // and the queue is full the register runs the check itself, which diagnose() waits for anyway.
+    private static ExecutorService createValidationExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(VALIDATION_QUEUE_CAPACITY), task -> {
+                    Thread thread = new Thread(task, "order-validation-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ExecutorService createObserverExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), task -> {
+            Thread thread = new Thread(task, "order-observer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // One lane per pool thread, so orders on different lanes never wait for each other
+    private static ObserverPipeline createObserverPipeline(ExecutorService executor) {
+        ObserverPipeline pipeline = new ObserverPipeline(executor, BackpressurePolicy.BLOCK,
+                OBSERVER_QUEUE_CAPACITY, Runtime.getRuntime().availableProcessors());
+        pipeline.attach(new KitchenDisplayObserver("Main"));
+        pipeline.attach(new CustomerNotificationObserver());
+        pipeline.attach(new InventoryObserver());
+        return pipeline;
+    }
+
+    public static OrderSessionManager getInstance() {
+        if (instance == null) {
+            synchronized (OrderSessionManager.class) {
+                if (instance == null) instance = new OrderSessionManager();
+            }
+        }
+        return instance;
+    }
+
+    private ValidationChain setupValidationChain() {
+        OrderValidationHandler emptyOrderHandler = new EmptyOrderHandler();
+        OrderValidationHandler workingHoursHandler = new WorkingHoursHandler();
+        OrderValidationHandler stockHandler = new StockAvailabilityHandler();
+        OrderValidationHandler minimumOrderHandler = new MinimumOrderHandler();
+
+        emptyOrderHandler.setNext(workingHoursHandler);
+        workingHoursHandler.setNext(stockHandler);
+        stockHandler.setNext(minimumOrderHandler);
+
+        return ValidationChain.compile(emptyOrderHandler, Boolean.getBoolean(ADAPTIVE_VALIDATION_PROPERTY),
+                createValidationExecutor());
+    }
+
+    private String generateOrderId() {
+        return idGenerator.nextOrderId();
+    }
+
+    // ============ SESSION LIFECYCLE ============
+
+    public OrderSession openSession() {
+        String orderId = generateOrderId();
+        OrderSubject orderSubject = new OrderSubject(observerPipeline, eventBus);
+
+        OrderSession session = new OrderSession(new Order(orderId), orderSubject);
+        sessions.put(orderId, session);
+        eventBus.publish(OrderEventType.CREATED, orderId, 0, 0);
+        return session;
+    }
+
+    public OrderSession getSession(String orderId) {
+        OrderSession session = sessions.get(orderId);
+        if (session == null) {
+            throw new IllegalArgumentException("Unknown order: " + orderId);
+        }
+        return session;
+    }
+
+    // Abandoned carts give their stock hold back straight away instead of waiting for it to expire
+    public void closeSession(String orderId) {
+        OrderSession session = sessions.remove(orderId);
+        inventoryManager.releaseReservation(orderId);
+        if (session != null) {
+            eventBus.publish(OrderEventType.ABANDONED, orderId, 0, 0);
+        }
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    // ============ ORDER OPERATIONS ============
+
+    public void addDrink(String orderId, Coffee drink) {
+        OrderSession session = getSession(orderId);
+        synchronized (session) {
+            session.addDrink(drink);
+            publishOrderEvent(OrderEventType.LINE_ADDED, session);
+        }
+    }
+
+    public void addFood(String orderId, Food food) {
+        OrderSession session = getSession(orderId);
+        synchronized (session) {
+            session.addFood(food);
+            publishOrderEvent(OrderEventType.LINE_ADDED, session);
+        }
+    }
+
+    public boolean removeDrink(String orderId, Coffee drink) {
+        OrderSession session = getSession(orderId);
+        synchronized (session) {
+            boolean removed = session.removeDrink(drink);
+            if (removed) {
+                publishOrderEvent(OrderEventType.LINE_REMOVED, session);
+            }
+            return removed;
+        }
+    }
+
+    public boolean removeFood(String orderId, Food food) {
+        OrderSession session = getSession(orderId);
+        synchronized (session) {
+            boolean removed = session.removeFood(food);
+            if (removed) {
+                publishOrderEvent(OrderEventType.LINE_REMOVED, session);
+            }
+            return removed;
+        }
+    }
+
+    // Called with the session locked, so one order's events reach the bus in order
+    private void publishOrderEvent(OrderEventType type, OrderSession session) {
+        Order order = session.getOrder();
+        eventBus.publish(type, order.getOrderId(), order.getTotalCents(), order.getItemCount());
+    }
+
+    public boolean validate(String orderId) {
+        OrderSession session = getSession(orderId);
+        synchronized (session) {
+            OrderSnapshot order = session.getOrder().snapshot();
+            if (!validationChain.validate(order)) {
+                publishOrderEvent(OrderEventType.VALIDATION_FAILED, session);
+                return false;
+            }
+
+            // Keep the validated stock for the customer while they pay
+            if (!holdStock(session, order)) {
+                System.out.println(" Some items sold out while you were ordering!");
+                publishOrderEvent(OrderEventType.VALIDATION_FAILED, session);
+                return false;
+            }
+            publishOrderEvent(OrderEventType.VALIDATED, session);
+            return true;
+        }
+    }
+
+    // Every problem with the order at once; takes no stock hold, validate() still has to pass
+    public ValidationReport diagnose(String orderId) {
+        OrderSession session = getSession(orderId);
+        synchronized (session) {
+            return validationChain.diagnose(session.getOrder().snapshot());
+        }
+    }
+
+    // Reuses the existing hold when it was taken for this exact snapshot and has not expired
+    private boolean holdStock(OrderSession session, OrderSnapshot order) {
+        String orderId = order.getOrderId();
+        if (session.getReservedSnapshot() == order && inventoryManager.hasReservation(orderId)) {
+            return true;
+        }
+
+        inventoryManager.releaseReservation(orderId);
+        session.setReservedSnapshot(null);
+        if (!inventoryManager.tryReserve(orderId, StockDemand.of(order))) {
+            return false;
+        }
+        session.setReservedSnapshot(order);
+        return true;
+    }
+
+    // Returns the receipt, or null when the payment strategy declines
+    public String pay(String orderId, long amountCents, PaymentStrategy paymentStrategy) {
+        OrderSession session = getSession(orderId);
+        synchronized (session) {
+            // Hold the stock before charging, so two registers cannot sell the last item twice
+            OrderSnapshot order = session.getOrder().snapshot();
+            if (!holdStock(session, order)) {
+                System.out.println(" Some items sold out while you were ordering!");
+                return null;
+            }
+
+            // STRATEGY PATTERN
+            if (!paymentStrategy.processPayment(amountCents)) {
+                inventoryManager.releaseReservation(orderId);
+                session.setReservedSnapshot(null);
+                return null;
+            }
+
+            String receipt = paymentStrategy.getPaymentReceipt(amountCents);
+            System.out.println(receipt);
+            eventBus.publish(OrderEventType.PAID, orderId, amountCents, order.getItemCount());
+
+            // OBSERVER PATTERN - notify after successful payment
+            System.out.println("\n" + "=".repeat(50));
+            System.out.println("           NOTIFYING OBSERVERS");
+            System.out.println("=".repeat(50));
+
+            // Frozen once here and shared by every observer for the rest of the lifecycle
+            session.getOrderSubject().setStatus(OrderStatus.CONFIRMED, order);
+
+            // Preparation continues in the background; checkout returns right away
+            lifecycleScheduler.startPreparation(session.getOrderSubject(), order);
+
+            // Not closeSession(): the stock hold now belongs to InventoryObserver, which may not have run yet
+            sessions.remove(orderId);
+            return receipt;
+        }
+    }
+
+    public KitchenDispatcher getKitchen() {
+        return lifecycleScheduler.getKitchen();
+    }
+
+    public ValidationChain getValidationChain() {
+        return validationChain;
+    }
+
+    public ObserverPipeline getObserverPipeline() {
+        return observerPipeline;
+    }
+
+    public OrderEventBus getEventBus() {
+        return eventBus;
+    }
+
+    public OrderAnalytics getAnalytics() {
+        return analytics;
+    }
+
+    public LifecycleLatencyStats getLatencyStats() {
+        return lifecycleScheduler.getLatencyStats();
+    }
+
+    public void awaitPendingOrders() {
+        try {
+            lifecycleScheduler.awaitIdle();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
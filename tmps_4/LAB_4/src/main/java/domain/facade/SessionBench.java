@@ -0,0 +1,74 @@
+package domain.facade;
+
+import domain.models.Order;
+import domain.models.OrderSnapshot;
+import domain.models.enums.OrderStatus;
+import domain.observer.publisher.BackpressurePolicy;
+import domain.observer.publisher.ObserverPipeline;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Measures how fast orders can be started and how much each one allocates on the calling
+// thread: opening and closing sessions on the shared manager, then dispatching statuses
+// through an asynchronous pipeline with a do-nothing observer. Bytes are only reported on
+// JVMs that count per-thread allocation (HotSpot).
+// Usage: SessionBench [orders] [rounds]
+public class SessionBench {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean COUNTS_ALLOCATION = THREADS instanceof com.sun.management.ThreadMXBean;
+
+    public static void main(String[] args) throws InterruptedException {
+        int orders = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        OrderSessionManager manager = OrderSessionManager.getInstance();
+        // Warm-up, so the rounds measure compiled code
+        openAndClose(manager, orders / 4);
+        for (int round = 1; round <= rounds; round++) {
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            openAndClose(manager, orders);
+            report("open+close", orders, System.nanoTime() - start, allocatedBytes() - bytes);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ObserverPipeline pipeline = new ObserverPipeline(executor, BackpressurePolicy.BLOCK, 1024, 2);
+        pipeline.attach((status, order) -> { });
+        OrderSnapshot snapshot = new Order("BENCH").snapshot();
+        OrderStatus[] statuses = OrderStatus.values();
+        dispatch(pipeline, snapshot, statuses, orders / 4);
+        for (int round = 1; round <= rounds; round++) {
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            dispatch(pipeline, snapshot, statuses, orders);
+            report("dispatch", orders, System.nanoTime() - start, allocatedBytes() - bytes);
+        }
+        executor.shutdown();
+        System.exit(0);
+    }
+
+    private static void openAndClose(OrderSessionManager manager, int orders) {
+        for (int i = 0; i < orders; i++) {
+            manager.closeSession(manager.openSession().getOrderId());
+        }
+    }
+
+    private static void dispatch(ObserverPipeline pipeline, OrderSnapshot snapshot, OrderStatus[] statuses, int count) {
+        for (int i = 0; i < count; i++) {
+            pipeline.dispatch(statuses[i % statuses.length], snapshot);
+        }
+    }
+
+    private static void report(String phase, int count, long nanos, long bytes) {
+        String perCall = COUNTS_ALLOCATION ? String.valueOf(bytes / count) : "n/a";
+        System.out.printf("%-10s %,d in %.2f s = %,.0f /s, %s bytes each%n",
+                phase, count, nanos / 1e9, count * 1e9 / nanos, perCall);
+    }
+
+    private static long allocatedBytes() {
+        return COUNTS_ALLOCATION ? ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes() : 0;
+    }
+}
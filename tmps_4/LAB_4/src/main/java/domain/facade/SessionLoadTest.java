@@ -0,0 +1,75 @@
+package domain.facade;
+
+import domain.builder.CoffeeBuilder;
+import domain.factory.CoffeeFactoryRegistry;
+import domain.models.Coffee;
+import domain.models.food.Croissant;
+import domain.models.food.Food;
+import domain.models.food.bridge.VendorSource;
+
+import java.util.concurrent.CountDownLatch;
+
+// Load test for the shared session manager: each thread runs its own orders through open,
+// add, remove, a full diagnosis and close, so threads never touch the same session. Prints
+// sessions per second for 1, 2, 4... threads up to the given maximum. Scaling needs the
+// cores to show it - on one core every row measures the same CPU.
+// Usage: SessionLoadTest [sessionsPerThread] [maxThreads]
+public class SessionLoadTest {
+
+    public static void main(String[] args) throws InterruptedException {
+        int perThread = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors() * 2;
+
+        OrderSessionManager manager = OrderSessionManager.getInstance();
+        Coffee drink = new CoffeeBuilder(CoffeeFactoryRegistry.getInstance().getFactory("espresso").createCoffee())
+                .quietly().build();
+        Food food = new Croissant(new VendorSource());
+
+        // Warm-up, so the rows measure compiled code
+        run(manager, drink, food, 1, perThread / 4);
+        System.out.println("Cores: " + Runtime.getRuntime().availableProcessors());
+        double single = 0;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double perSecond = run(manager, drink, food, threads, perThread);
+            if (threads == 1) {
+                single = perSecond;
+            }
+            System.out.printf("%2d threads: %,10.0f sessions/s (x%.2f)%n", threads, perSecond, perSecond / single);
+        }
+        System.exit(0);
+    }
+
+    private static double run(OrderSessionManager manager, Coffee drink, Food food, int threads, int perThread)
+            throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                awaitStart(start);
+                for (int i = 0; i < perThread; i++) {
+                    String orderId = manager.openSession().getOrderId();
+                    manager.addDrink(orderId, drink);
+                    manager.addFood(orderId, food);
+                    manager.removeFood(orderId, food);
+                    manager.diagnose(orderId);
+                    manager.closeSession(orderId);
+                }
+                done.countDown();
+            }, "load-" + t);
+            worker.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        return (double) threads * perThread * 1e9 / (System.nanoTime() - begin);
+    }
+
+    private static void awaitStart(CountDownLatch start) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted before the run started", e);
+        }
+    }
+}
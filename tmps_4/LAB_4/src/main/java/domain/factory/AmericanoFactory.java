@@ -6,6 +6,11 @@ import domain.models.Americano;
 import domain.models.Coffee;
 
 public class AmericanoFactory implements CoffeeFactory {
+    @Override
+    public String getTypeName() {
+        return "americano";
+    }
+
     @Override
     public Coffee createCoffee() {
         return new Americano();
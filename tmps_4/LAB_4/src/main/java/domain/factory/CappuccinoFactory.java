@@ -7,6 +7,11 @@ import domain.models.Cappuccino;
 
 public class CappuccinoFactory implements CoffeeFactory {
 
+    @Override
+    public String getTypeName() {
+        return "cappuccino";
+    }
+
     @Override
     public Coffee createCoffee() {
         return new Cappuccino();
@@ -4,6 +4,7 @@ import domain.builder.Builder;
 import domain.models.Coffee;
 
 public interface CoffeeFactory {
+    String getTypeName();
     Coffee createCoffee();
     Builder getDefaultBuilder();
 }
@@ -0,0 +1,152 @@
+package domain.factory;
+
+import domain.models.Coffee;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+// One shared instance of every CoffeeFactory, discovered through ServiceLoader
+// (META-INF/services/domain.factory.CoffeeFactory). New drinks ship as plug-ins.
+public final class CoffeeFactoryRegistry {
+    private static final CoffeeFactoryRegistry INSTANCE = new CoffeeFactoryRegistry();
+
+    // Open-addressing table keyed by the lower-case type name. Lookups hash the
+    // caller's string case-insensitively in place, so no lower-cased copy is made.
+    private final Entry[] table;
+    private final int mask;
+    private final List<String> typeNames;
+    private final List<CoffeeTypeSpec> specs;
+    private final Map<Class<?>, CoffeeTypeSpec> specsByCoffeeClass;
+
+    private CoffeeFactoryRegistry() {
+        List<CoffeeFactory> factories = discoverFactories();
+
+        int capacity = Integer.highestOneBit(Math.max(factories.size(), 1) * 4);
+        this.table = new Entry[capacity];
+        this.mask = capacity - 1;
+
+        List<String> names = new ArrayList<>();
+        List<CoffeeTypeSpec> typeSpecs = new ArrayList<>();
+        this.specsByCoffeeClass = new HashMap<>();
+        for (CoffeeFactory factory : factories) {
+            String typeName = factory.getTypeName().toLowerCase(Locale.ROOT);
+            Coffee sample = factory.createCoffee();
+            CoffeeTypeSpec spec = CoffeeTypeSpec.of(typeSpecs.size(), sample);
+
+            register(new Entry(typeName, factory, spec));
+            names.add(typeName);
+            typeSpecs.add(spec);
+            specsByCoffeeClass.put(sample.getClass(), spec);
+        }
+        this.typeNames = Collections.unmodifiableList(names);
+        this.specs = Collections.unmodifiableList(typeSpecs);
+    }
+
+    public static CoffeeFactoryRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    private static List<CoffeeFactory> discoverFactories() {
+        List<CoffeeFactory> factories = new ArrayList<>();
+        for (CoffeeFactory factory : ServiceLoader.load(CoffeeFactory.class)) {
+            factories.add(factory);
+        }
+
+        // Running without the resources folder on the classpath - fall back to the built-in menu
+        if (factories.isEmpty()) {
+            factories.add(new EspressoFactory());
+            factories.add(new AmericanoFactory());
+            factories.add(new CappuccinoFactory());
+            factories.add(new LatteFactory());
+        }
+        return factories;
+    }
+
+    private void register(Entry entry) {
+        int slot = hash(entry.typeName) & mask;
+        while (table[slot] != null) {
+            if (table[slot].typeName.equals(entry.typeName)) {
+                throw new IllegalStateException("Duplicate coffee type: " + entry.typeName);
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry;
+    }
+
+    private Entry find(String typeName) {
+        int slot = hash(typeName) & mask;
+        Entry entry;
+        while ((entry = table[slot]) != null) {
+            if (entry.typeName.length() == typeName.length()
+                    && entry.typeName.regionMatches(true, 0, typeName, 0, typeName.length())) {
+                return entry;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private Entry require(String typeName) {
+        Entry entry = find(typeName);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unsupported coffee type: " + typeName);
+        }
+        return entry;
+    }
+
+    private static int hash(String typeName) {
+        int h = 0;
+        for (int i = 0; i < typeName.length(); i++) {
+            h = 31 * h + Character.toLowerCase(typeName.charAt(i));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    public CoffeeFactory getFactory(String typeName) {
+        return require(typeName).factory;
+    }
+
+    public CoffeeTypeSpec getSpec(String typeName) {
+        return require(typeName).spec;
+    }
+
+    // Resolves a built drink back to its type without touching its description
+    public CoffeeTypeSpec getSpec(Coffee coffee) {
+        CoffeeTypeSpec spec = specsByCoffeeClass.get(coffee.getClass());
+        if (spec == null) {
+            throw new IllegalArgumentException("Unregistered coffee type: " + coffee.getName());
+        }
+        return spec;
+    }
+
+    public boolean isRegistered(String typeName) {
+        return find(typeName) != null;
+    }
+
+    // Registration order, as listed in the service file
+    public List<String> getTypeNames() {
+        return typeNames;
+    }
+
+    // Indexed by CoffeeTypeSpec.getTypeIndex()
+    public List<CoffeeTypeSpec> getSpecs() {
+        return specs;
+    }
+
+    private static final class Entry {
+        private final String typeName;
+        private final CoffeeFactory factory;
+        private final CoffeeTypeSpec spec;
+
+        private Entry(String typeName, CoffeeFactory factory, CoffeeTypeSpec spec) {
+            this.typeName = typeName;
+            this.factory = factory;
+            this.spec = spec;
+        }
+    }
+}
@@ -1,27 +1,36 @@
 package domain.factory;
 
+import domain.calendar.BusinessCalendar;
+import domain.pricing.Money;
+import domain.pricing.PricingEngine;
+
+import java.time.LocalTime;
 import java.util.HashSet;
 import java.util.Set;
 
 public class CoffeeShopConfig {
     private static CoffeeShopConfig instance;
     private String shopName;
-    private double taxRate;
+    private int taxBasisPoints;
     private boolean loyaltyProgramEnabled;
     private int maxExtrasPerDrink;
     private Set<String> loyaltyMembers;
-    private double loyaltyDiscount;
+    private int loyaltyDiscountBasisPoints;
     private double shotPrice;
+    private volatile BusinessCalendar businessCalendar;
 
     // Private constructor prevents instantiation from other classes
     private CoffeeShopConfig() {
         this.shopName = "\uD83E\uDD50☕ Loredana's Local Bistro \uD83E\uDD50☕";
-        this.taxRate = 0.06;
+        this.taxBasisPoints = 600; // 6%
         this.loyaltyProgramEnabled = true;
         this.maxExtrasPerDrink = 3;
         this.loyaltyMembers = new HashSet<>();
-        this.loyaltyDiscount = 0.10; // 10% discount
+        this.loyaltyDiscountBasisPoints = 1000; // 10% discount
         this.shotPrice = 0.50;
+        this.businessCalendar = BusinessCalendar.builder()
+                .addHoursEveryDay(LocalTime.of(0, 0), LocalTime.of(23, 58))
+                .build();
 
         // Pre-populate with some test members
         loyaltyMembers.add("060250970");
@@ -39,14 +48,24 @@ public class CoffeeShopConfig {
 
 
     public String getShopName() { return shopName; }
-    public double getTaxRate() { return taxRate; }
+    public double getTaxRate() { return taxBasisPoints / 10_000.0; }
     public boolean isLoyaltyProgramEnabled() { return loyaltyProgramEnabled; }
     public int getMaxExtrasPerDrink() { return maxExtrasPerDrink; }
-    public double getLoyaltyDiscount() { return loyaltyDiscount; }
+    public double getLoyaltyDiscount() { return loyaltyDiscountBasisPoints / 10_000.0; }
     public double getShotPrice() { return shotPrice; }
+    public BusinessCalendar getBusinessCalendar() { return businessCalendar; }
 
     public void setShopName(String shopName) { this.shopName = shopName; }
-    public void setTaxRate(double taxRate) { this.taxRate = taxRate; }
+    public void setTaxRate(double taxRate) { this.taxBasisPoints = Money.toBasisPoints(taxRate); }
+
+    // Per-store opening hours, holidays and clock; picked up by the next validation
+    public void setBusinessCalendar(BusinessCalendar businessCalendar) { this.businessCalendar = businessCalendar; }
+
+    public void setShotPrice(double shotPrice) {
+        this.shotPrice = shotPrice;
+        // Drink prices are precompiled, so recompile them with the new shot price
+        PricingEngine.getInstance().rebuild();
+    }
 
     public boolean isMember(String phoneNumber) {
         return loyaltyMembers.contains(phoneNumber);
@@ -57,19 +76,20 @@ public class CoffeeShopConfig {
         System.out.println("Yayy!!! Successfully enrolled! Your number: " + phoneNumber);
     }
 
-    public double applyLoyaltyDiscount(double price) {
-        return price * (1 - loyaltyDiscount);
+    public long applyLoyaltyDiscount(long priceCents) {
+        return Money.discount(priceCents, loyaltyDiscountBasisPoints);
+    }
+
+    public long calculateTax(long priceCents) {
+        return Money.percentage(priceCents, taxBasisPoints);
     }
 
-    public double[] calculateFinalPrice(double price) {
-        double tax = price * this.taxRate;
-        double finalPrice = price + tax;
-        double [] result = {tax, finalPrice};
-        return result;
+    public long calculateFinalPrice(long priceCents) {
+        return priceCents + calculateTax(priceCents);
     }
 
     public void displayLoyaltyInfo() {
         System.out.println("\nLoyalty Program Benefits:");
-        System.out.println("   - " + (int)(loyaltyDiscount * 100) + "% discount on all orders");
+        System.out.println("   - " + loyaltyDiscountBasisPoints / 100 + "% discount on all orders");
     }
 }
\ No newline at end of file
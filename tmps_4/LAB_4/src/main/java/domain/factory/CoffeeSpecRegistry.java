@@ -0,0 +1,34 @@
+package domain.factory;
+
+import domain.models.enums.CoffeeType;
+
+// Built once at class load; built-in types are an array read by enum ordinal,
+// plug-in types resolve through the factory registry's table
+public final class CoffeeSpecRegistry {
+    private static final CoffeeSpecRegistry INSTANCE = new CoffeeSpecRegistry();
+
+    private final CoffeeFactoryRegistry factories;
+    private final CoffeeTypeSpec[] specs;
+
+    private CoffeeSpecRegistry() {
+        this.factories = CoffeeFactoryRegistry.getInstance();
+        CoffeeType[] types = CoffeeType.values();
+        this.specs = new CoffeeTypeSpec[types.length];
+        for (CoffeeType type : types) {
+            specs[type.ordinal()] = factories.getSpec(type.getTypeName());
+        }
+    }
+
+    public static CoffeeSpecRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public CoffeeTypeSpec get(CoffeeType type) {
+        return specs[type.ordinal()];
+    }
+
+    public CoffeeTypeSpec get(String typeName) {
+        CoffeeType type = CoffeeType.find(typeName);
+        return type != null ? specs[type.ordinal()] : factories.getSpec(typeName);
+    }
+}
@@ -0,0 +1,49 @@
+package domain.factory;
+
+import domain.models.Coffee;
+
+// Immutable snapshot of the constants a coffee type declares in its constructor
+public final class CoffeeTypeSpec {
+    private final int typeIndex;
+    private final String name;
+    private final double basePrice;
+    private final boolean requiresMilk;
+    private final boolean allowsMilk;
+    private final boolean canBeIced;
+    private final int minShots;
+    private final int maxShots;
+    private final int defaultShots;
+    private final int waterMl;
+    private final int milkMl;
+
+    private CoffeeTypeSpec(int typeIndex, Coffee coffee) {
+        this.typeIndex = typeIndex;
+        this.name = coffee.getName();
+        this.basePrice = coffee.getBasePrice();
+        this.requiresMilk = coffee.requiresMilk();
+        this.allowsMilk = coffee.allowsMilk();
+        this.canBeIced = coffee.canBeIced();
+        this.minShots = coffee.getMinShots();
+        this.maxShots = coffee.getMaxShots();
+        this.defaultShots = coffee.getDefaultShots();
+        this.waterMl = coffee.getWaterMl();
+        this.milkMl = coffee.getMilkMl();
+    }
+
+    // typeIndex is the dense position the registry gave this type, used by tables keyed per type
+    static CoffeeTypeSpec of(int typeIndex, Coffee coffee) {
+        return new CoffeeTypeSpec(typeIndex, coffee);
+    }
+
+    public int getTypeIndex() { return typeIndex; }
+    public String getName() { return name; }
+    public double getBasePrice() { return basePrice; }
+    public boolean requiresMilk() { return requiresMilk; }
+    public boolean allowsMilk() { return allowsMilk; }
+    public boolean canBeIced() { return canBeIced; }
+    public int getMinShots() { return minShots; }
+    public int getMaxShots() { return maxShots; }
+    public int getDefaultShots() { return defaultShots; }
+    public int getWaterMl() { return waterMl; }
+    public int getMilkMl() { return milkMl; }
+}
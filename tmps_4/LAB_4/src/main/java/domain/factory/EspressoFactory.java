@@ -6,6 +6,11 @@ import domain.models.Espresso;
 import domain.models.Coffee;
 
 public class EspressoFactory implements CoffeeFactory {
+    @Override
+    public String getTypeName() {
+        return "espresso";
+    }
+
     @Override
     public Coffee createCoffee() {
         return new Espresso();
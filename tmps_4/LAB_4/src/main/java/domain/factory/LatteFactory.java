@@ -6,6 +6,11 @@ import domain.models.Latte;
 import domain.models.Coffee;
 
 public class LatteFactory implements CoffeeFactory {
+    @Override
+    public String getTypeName() {
+        return "latte";
+    }
+
     @Override
     public Coffee createCoffee() {
         return new Latte();
@@ -0,0 +1,127 @@
+package domain.factory;
+
+import domain.models.Coffee;
+import domain.models.enums.CoffeeType;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+// Compares the facade's coffee type queries the old way - a new factory and a new Coffee per
+// query - with the spec registry looked up by name and by enum. Each pass asks the seven
+// facade questions (shots, milk, iced, base price) for every built-in type. Bytes are per
+// pass on the calling thread, on JVMs that count them (HotSpot).
+// Usage: SpecBench [passes] [rounds]
+public class SpecBench {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean COUNTS_ALLOCATION = THREADS instanceof com.sun.management.ThreadMXBean;
+
+    private static final CoffeeType[] TYPES = CoffeeType.values();
+    private static final String[] NAMES = new String[TYPES.length];
+
+    static {
+        for (int i = 0; i < TYPES.length; i++) {
+            NAMES[i] = TYPES[i].getTypeName();
+        }
+    }
+
+    // Keeps the JIT from dropping the queries
+    private static long sink;
+
+    public static void main(String[] args) {
+        int passes = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        CoffeeSpecRegistry registry = CoffeeSpecRegistry.getInstance();
+
+        for (int round = 0; round <= rounds; round++) {
+            // Round 0 is the warm-up and is not printed
+            long[] old = measure(() -> oldQueries(passes));
+            long[] byName = measure(() -> registryByName(registry, passes));
+            long[] byEnum = measure(() -> registryByEnum(registry, passes));
+            if (round > 0) {
+                report("factory + Coffee", old, passes);
+                report("registry by name", byName, passes);
+                report("registry by enum", byEnum, passes);
+                System.out.println();
+            }
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    private static void oldQueries(int passes) {
+        long sum = 0;
+        for (int p = 0; p < passes; p++) {
+            for (String name : NAMES) {
+                sum += createBaseCoffee(name).getMinShots();
+                sum += createBaseCoffee(name).getMaxShots();
+                sum += createBaseCoffee(name).getDefaultShots();
+                sum += createBaseCoffee(name).allowsMilk() ? 1 : 0;
+                sum += createBaseCoffee(name).requiresMilk() ? 1 : 0;
+                sum += createBaseCoffee(name).canBeIced() ? 1 : 0;
+                sum += (long) createBaseCoffee(name).getBasePrice();
+            }
+        }
+        sink += sum;
+    }
+
+    // What OrderFacade did before the registry
+    private static Coffee createBaseCoffee(String type) {
+        CoffeeFactory factory = switch (type.toLowerCase()) {
+            case "espresso" -> new EspressoFactory();
+            case "americano" -> new AmericanoFactory();
+            case "cappuccino" -> new CappuccinoFactory();
+            case "latte" -> new LatteFactory();
+            default -> throw new IllegalArgumentException("Unsupported coffee type: " + type);
+        };
+        return factory.createCoffee();
+    }
+
+    private static void registryByName(CoffeeSpecRegistry registry, int passes) {
+        long sum = 0;
+        for (int p = 0; p < passes; p++) {
+            for (String name : NAMES) {
+                sum += registry.get(name).getMinShots();
+                sum += registry.get(name).getMaxShots();
+                sum += registry.get(name).getDefaultShots();
+                sum += registry.get(name).allowsMilk() ? 1 : 0;
+                sum += registry.get(name).requiresMilk() ? 1 : 0;
+                sum += registry.get(name).canBeIced() ? 1 : 0;
+                sum += (long) registry.get(name).getBasePrice();
+            }
+        }
+        sink += sum;
+    }
+
+    private static void registryByEnum(CoffeeSpecRegistry registry, int passes) {
+        long sum = 0;
+        for (int p = 0; p < passes; p++) {
+            for (CoffeeType type : TYPES) {
+                sum += registry.get(type).getMinShots();
+                sum += registry.get(type).getMaxShots();
+                sum += registry.get(type).getDefaultShots();
+                sum += registry.get(type).allowsMilk() ? 1 : 0;
+                sum += registry.get(type).requiresMilk() ? 1 : 0;
+                sum += registry.get(type).canBeIced() ? 1 : 0;
+                sum += (long) registry.get(type).getBasePrice();
+            }
+        }
+        sink += sum;
+    }
+
+    // {elapsed nanos, allocated bytes}
+    private static long[] measure(Runnable work) {
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+        work.run();
+        return new long[]{System.nanoTime() - start, allocatedBytes() - bytes};
+    }
+
+    private static void report(String path, long[] measured, int passes) {
+        long queries = (long) passes * NAMES.length * 7;
+        String perPass = COUNTS_ALLOCATION ? String.valueOf(measured[1] / passes) : "n/a";
+        System.out.printf("%-18s %6.1f ns/query, %s bytes/pass%n", path, (double) measured[0] / queries, perPass);
+    }
+
+    private static long allocatedBytes() {
+        return COUNTS_ALLOCATION ? ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes() : 0;
+    }
+}
@@ -0,0 +1,58 @@
+package domain.id;
+
+import java.util.Arrays;
+
+// Checks IdGenerator under contention: several threads draw IDs from one generator as fast
+// as they can, then every ID is checked for duplicates and each thread's IDs for strictly
+// increasing order. Exits with status 1 if either check fails.
+// Usage: IdBench [threads] [idsPerThread]
+public class IdBench {
+
+    public static void main(String[] args) throws InterruptedException {
+        int threadCount = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int perThread = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+
+        IdGenerator generator = new IdGenerator(1);
+        long[][] drawn = new long[threadCount][perThread];
+        Thread[] threads = new Thread[threadCount];
+        long start = System.nanoTime();
+        for (int t = 0; t < threadCount; t++) {
+            long[] ids = drawn[t];
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = generator.nextId();
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        int outOfOrder = 0;
+        long[] all = new long[threadCount * perThread];
+        for (int t = 0; t < threadCount; t++) {
+            for (int i = 1; i < perThread; i++) {
+                if (drawn[t][i] <= drawn[t][i - 1]) {
+                    outOfOrder++;
+                }
+            }
+            System.arraycopy(drawn[t], 0, all, t * perThread, perThread);
+        }
+        Arrays.sort(all);
+        int duplicates = 0;
+        for (int i = 1; i < all.length; i++) {
+            if (all[i] == all[i - 1]) {
+                duplicates++;
+            }
+        }
+
+        System.out.printf("%,d IDs from %d threads in %.2f s = %,.0f IDs/s%n",
+                all.length, threadCount, elapsed / 1e9, all.length * 1e9 / elapsed);
+        System.out.println("Duplicates: " + duplicates + ", out of order within a thread: " + outOfOrder);
+        System.out.println("Samples: " + generator.nextOrderId() + " " + generator.nextAuthorizationCode()
+                + " " + generator.nextConfirmationCode());
+        System.exit(duplicates == 0 && outOfOrder == 0 ? 0 : 1);
+    }
+}
@@ -0,0 +1,78 @@
+package domain.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Snowflake-style IDs: 41 bits of milliseconds since EPOCH_MS, 10 bits of terminal ID
+// and 12 bits of sequence. Lock-free and strictly increasing within a process.
+public class IdGenerator {
+    private static final long EPOCH_MS = 1735689600000L; // 2025-01-01T00:00:00Z
+    private static final int TERMINAL_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_TERMINAL_ID = (1L << TERMINAL_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    // Digits of the largest unsigned 64-bit value in base 36
+    private static final int CODE_LENGTH = 13;
+
+    private static volatile IdGenerator instance;
+
+    private final long terminalBits;
+
+    // Last issued (timestamp << SEQUENCE_BITS | sequence). When a millisecond runs out of
+    // sequence numbers the value simply rolls into the next one instead of spinning.
+    private final AtomicLong lastTimeAndSequence;
+
+    public IdGenerator(int terminalId) {
+        if (terminalId < 0 || terminalId > MAX_TERMINAL_ID) {
+            throw new IllegalArgumentException("Terminal ID must be between 0 and " + MAX_TERMINAL_ID);
+        }
+        this.terminalBits = (long) terminalId << SEQUENCE_BITS;
+        this.lastTimeAndSequence = new AtomicLong();
+    }
+
+    public static IdGenerator getInstance() {
+        if (instance == null) {
+            synchronized (IdGenerator.class) {
+                if (instance == null) {
+                    instance = new IdGenerator(Integer.getInteger("coffeeshop.terminalId", 0));
+                }
+            }
+        }
+        return instance;
+    }
+
+    public long nextId() {
+        long now = (System.currentTimeMillis() - EPOCH_MS) << SEQUENCE_BITS;
+        long timeAndSequence = lastTimeAndSequence.updateAndGet(last -> Math.max(last + 1, now));
+
+        long timestamp = timeAndSequence >>> SEQUENCE_BITS;
+        long sequence = timeAndSequence & SEQUENCE_MASK;
+        return (timestamp << (TERMINAL_BITS + SEQUENCE_BITS)) | terminalBits | sequence;
+    }
+
+    public String nextOrderId() {
+        return "ORD-" + nextId();
+    }
+
+    // Human-facing codes: the whole ID, scrambled and written in base 36. Nothing is cut off,
+    // so two codes from one generator are never equal
+    public String nextAuthorizationCode() {
+        return toCode(nextId());
+    }
+
+    public String nextConfirmationCode() {
+        return toCode(nextId());
+    }
+
+    private static String toCode(long id) {
+        String digits = Long.toUnsignedString(scramble(id), 36).toUpperCase();
+        return "0".repeat(CODE_LENGTH - digits.length()) + digits;
+    }
+
+    // Bijective on 64 bits (splitmix64 finalizer), so distinct IDs give distinct codes
+    private static long scramble(long id) {
+        long z = id * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
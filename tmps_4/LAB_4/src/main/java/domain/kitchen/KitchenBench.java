@@ -0,0 +1,55 @@
+package domain.kitchen;
+
+import domain.models.Americano;
+import domain.models.Cappuccino;
+import domain.models.Coffee;
+import domain.models.Latte;
+import domain.models.Order;
+import domain.models.enums.MilkType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Peak-hour kitchen throughput: the same burst of orders (a latte and an americano each,
+// plus a cappuccino every other order) goes to kitchens with 1, 2, 3, 4 and 6 baristas, all
+// at once, and the kitchen reports drinks per shop minute once the last one is done.
+// Prep times are the real ones, run speedup times faster than the wall clock.
+// Usage: KitchenBench [orders] [speedup]
+public class KitchenBench {
+    private static final int[] BARISTAS = {1, 2, 3, 4, 6};
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException, TimeoutException {
+        int orders = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        double speedup = args.length > 1 ? Double.parseDouble(args[1]) : 2000;
+
+        for (int baristas : BARISTAS) {
+            KitchenDispatcher kitchen = new KitchenDispatcher(baristas, speedup);
+            List<CompletableFuture<Void>> tickets = new ArrayList<>(orders);
+            for (int i = 0; i < orders; i++) {
+                tickets.add(kitchen.submit(peakHourOrder(i).snapshot()));
+            }
+            CompletableFuture.allOf(tickets.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.MINUTES);
+            System.out.printf("%d barista(s): %.1f drinks/min, %d items stolen%n",
+                    baristas, kitchen.getDrinksPerMinute(), kitchen.getItemsStolen());
+            kitchen.shutdown();
+        }
+    }
+
+    private static Order peakHourOrder(int index) {
+        Order order = new Order("BENCH-" + index);
+        Coffee latte = new Latte();
+        latte.setMilkType(MilkType.WHOLE);
+        order.addDrink(latte);
+        order.addDrink(new Americano());
+        if (index % 2 == 0) {
+            Coffee cappuccino = new Cappuccino();
+            cappuccino.setMilkType(MilkType.OAT);
+            order.addDrink(cappuccino);
+        }
+        return order;
+    }
+}
@@ -0,0 +1,341 @@
+package domain.kitchen;
+
+import domain.models.Coffee;
+import domain.models.OrderSnapshot;
+import domain.models.food.Food;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Splits confirmed orders into station work items and spreads them over the baristas.
+// Each barista has a home station and its own deque: new items go to the least loaded
+// barista homed at the item's station, and an idle barista steals from the back of the
+// busiest deque. Station units (two group heads, one steam wand, one oven) are semaphores,
+// so a barista never stands at equipment someone else is using. An item whose station is
+// taken waits in that station's line, and whoever frees a unit makes it next.
+public class KitchenDispatcher {
+    private static final Station[] HOME_ROTATION = {Station.ESPRESSO_GROUP, Station.STEAM_WAND, Station.OVEN};
+
+    private final double speedup;
+    private final Barista[] baristas;
+
+    // By station ordinal; null for stations with unlimited room
+    private final StationLine[] stationLines;
+    private final AtomicInteger itemsWaitingForStation = new AtomicInteger();
+
+    // Idle baristas sleep here until submit() brings work
+    private final Object workSignal = new Object();
+
+    private final AtomicLong ordersCompleted = new AtomicLong();
+    private final AtomicLong drinksCompleted = new AtomicLong();
+    private final AtomicLong itemsCompleted = new AtomicLong();
+    private final AtomicLong itemsStolen = new AtomicLong();
+    private final AtomicLong firstOrderNanos = new AtomicLong();
+
+    // speedup: shop milliseconds per real millisecond (1 = real time)
+    public KitchenDispatcher(int baristaCount, double speedup) {
+        if (baristaCount < 1) {
+            throw new IllegalArgumentException("A kitchen needs at least one barista");
+        }
+        this.speedup = speedup;
+
+        Station[] stations = Station.values();
+        this.stationLines = new StationLine[stations.length];
+        for (Station station : stations) {
+            if (station.getUnits() > 0) {
+                stationLines[station.ordinal()] = new StationLine(station.getUnits());
+            }
+        }
+
+        this.baristas = new Barista[baristaCount];
+        for (int i = 0; i < baristaCount; i++) {
+            baristas[i] = new Barista(i + 1, HOME_ROTATION[i % HOME_ROTATION.length]);
+        }
+        for (Barista barista : baristas) {
+            barista.start();
+        }
+    }
+
+    // ============ SUBMIT ============
+
+    // Completes when every drink and food item of the order is made
+    public CompletableFuture<Void> submit(OrderSnapshot order) {
+        firstOrderNanos.compareAndSet(0, System.nanoTime());
+        KitchenTicket ticket = new KitchenTicket(order.getOrderId(), order.getDrinkCount());
+        List<WorkItem> items = plan(order, ticket);
+        if (items.isEmpty()) {
+            finish(ticket);
+            return ticket.getDone();
+        }
+
+        ticket.expect(items.size());
+        for (WorkItem item : items) {
+            route(item).push(item);
+        }
+        synchronized (workSignal) {
+            workSignal.notifyAll();
+        }
+        return ticket.getDone();
+    }
+
+    private List<WorkItem> plan(OrderSnapshot order, KitchenTicket ticket) {
+        List<WorkItem> items = new ArrayList<>();
+        for (int i = 0; i < order.getDrinkCount(); i++) {
+            Coffee drink = order.getDrink(i);
+            items.add(new WorkItem(ticket, drink.getName() + " shots", Station.ESPRESSO_GROUP,
+                    PrepTimes.espressoPullMillis(drink)));
+
+            // Milk is steamed while the shots pull, on the other station
+            if (PrepTimes.needsSteaming(drink)) {
+                items.add(new WorkItem(ticket, drink.getName() + " milk", Station.STEAM_WAND,
+                        PrepTimes.steamMillis(drink)));
+            }
+        }
+
+        for (int i = 0; i < order.getFoodCount(); i++) {
+            Food food = order.getFood(i);
+            items.add(new WorkItem(ticket, food.getName(), PrepTimes.foodStation(food), PrepTimes.foodMillis(food)));
+        }
+        return items;
+    }
+
+    private Barista route(WorkItem item) {
+        Barista best = null;
+        for (Barista barista : baristas) {
+            if (barista.home == item.getStation() && (best == null || barista.queued.get() < best.queued.get())) {
+                best = barista;
+            }
+        }
+        if (best != null) {
+            return best;
+        }
+        for (Barista barista : baristas) {
+            if (best == null || barista.queued.get() < best.queued.get()) {
+                best = barista;
+            }
+        }
+        return best;
+    }
+
+    private boolean hasQueuedWork() {
+        for (Barista barista : baristas) {
+            if (barista.queued.get() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Called holding a unit of line: the next waiting item to make with it, or null once the
+    // unit is given back
+    private WorkItem nextInLine(StationLine line) {
+        while (true) {
+            WorkItem next = line.waiting.poll();
+            if (next != null) {
+                itemsWaitingForStation.decrementAndGet();
+                return next;
+            }
+            line.units.release();
+            // An item that joined the line between the poll and the release would have nobody
+            // to make it, so take the unit back for it
+            if (line.waiting.isEmpty() || !line.units.tryAcquire()) {
+                return null;
+            }
+        }
+    }
+
+    private void finish(KitchenTicket ticket) {
+        ordersCompleted.incrementAndGet();
+        drinksCompleted.addAndGet(ticket.getDrinkCount());
+        ticket.getDone().complete(null);
+    }
+
+    // ============ STATS ============
+
+    public long getOrdersCompleted() {
+        return ordersCompleted.get();
+    }
+
+    public long getDrinksCompleted() {
+        return drinksCompleted.get();
+    }
+
+    public long getItemsCompleted() {
+        return itemsCompleted.get();
+    }
+
+    public long getItemsStolen() {
+        return itemsStolen.get();
+    }
+
+    // Items not started yet, including those waiting for a station
+    public int getQueuedItems() {
+        int queued = itemsWaitingForStation.get();
+        for (Barista barista : baristas) {
+            queued += Math.max(0, barista.queued.get());
+        }
+        return queued;
+    }
+
+    public int getItemsWaitingForStation() {
+        return itemsWaitingForStation.get();
+    }
+
+    // In shop minutes since the first order arrived
+    public double getDrinksPerMinute() {
+        long start = firstOrderNanos.get();
+        if (start == 0) {
+            return 0;
+        }
+        double shopMinutes = (System.nanoTime() - start) * speedup / 60e9;
+        return shopMinutes <= 0 ? 0 : drinksCompleted.get() / shopMinutes;
+    }
+
+    public void displayStats() {
+        System.out.println("\n[Kitchen]");
+        System.out.printf(" %d orders, %d drinks done (%.1f drinks/min), %d items queued (%d waiting for a station), %d stolen%n",
+                ordersCompleted.get(), drinksCompleted.get(), getDrinksPerMinute(),
+                getQueuedItems(), itemsWaitingForStation.get(), itemsStolen.get());
+        for (Barista barista : baristas) {
+            System.out.printf(" Barista %d (%s): %d items made%n",
+                    barista.number, barista.home.getDisplayName(), barista.itemsMade);
+        }
+    }
+
+    public void shutdown() {
+        for (Barista barista : baristas) {
+            barista.interrupt();
+        }
+    }
+
+    // ============ BARISTAS ============
+
+    private final class Barista extends Thread {
+        private final int number;
+        private final Station home;
+        private final ConcurrentLinkedDeque<WorkItem> queue = new ConcurrentLinkedDeque<>();
+
+        // Size of queue: ConcurrentLinkedDeque.size() walks the whole deque. Raised after an
+        // item goes in and lowered after one comes out, so it may briefly lag behind.
+        private final AtomicInteger queued = new AtomicInteger();
+        private volatile long itemsMade;
+
+        private Barista(int number, Station home) {
+            super("barista-" + number);
+            this.number = number;
+            this.home = home;
+            setDaemon(true);
+        }
+
+        private void push(WorkItem item) {
+            queue.addLast(item);
+            queued.incrementAndGet();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!isInterrupted()) {
+                    WorkItem item = nextItem();
+                    if (item == null) {
+                        idle();
+                    } else {
+                        make(item);
+                    }
+                }
+            } catch (InterruptedException e) {
+                // shutdown
+            }
+        }
+
+        // Own work oldest first; otherwise steal the newest item of the busiest barista
+        private WorkItem nextItem() {
+            WorkItem item = queue.pollFirst();
+            if (item != null) {
+                queued.decrementAndGet();
+                return item;
+            }
+            Barista victim = null;
+            for (Barista other : baristas) {
+                if (other != this && (victim == null || other.queued.get() > victim.queued.get())) {
+                    victim = other;
+                }
+            }
+            if (victim == null) {
+                return null;
+            }
+            item = victim.queue.pollLast();
+            if (item != null) {
+                victim.queued.decrementAndGet();
+                itemsStolen.incrementAndGet();
+            }
+            return item;
+        }
+
+        // Makes item, or leaves it in its station's line when every unit there is taken.
+        // Holding a unit, keeps making whatever waits for that station before letting go.
+        private void make(WorkItem item) throws InterruptedException {
+            StationLine line = stationLines[item.getStation().ordinal()];
+            if (line == null) {
+                prepare(item);
+                return;
+            }
+            if (!line.units.tryAcquire()) {
+                itemsWaitingForStation.incrementAndGet();
+                line.waiting.add(item);
+                // A unit freed before the item joined the line would not have seen it
+                if (!line.units.tryAcquire()) {
+                    return;
+                }
+                item = nextInLine(line);
+            }
+            while (item != null) {
+                try {
+                    prepare(item);
+                } catch (InterruptedException e) {
+                    line.units.release();
+                    throw e;
+                }
+                item = nextInLine(line);
+            }
+        }
+
+        private void prepare(WorkItem item) throws InterruptedException {
+            long realNanos = (long) (TimeUnit.MILLISECONDS.toNanos(item.getPrepMillis()) / speedup);
+            TimeUnit.NANOSECONDS.sleep(realNanos);
+
+            itemsMade++;
+            itemsCompleted.incrementAndGet();
+            if (item.getTicket().itemDone()) {
+                finish(item.getTicket());
+            }
+        }
+
+        // submit() raises the counters before it signals, so a check under the lock cannot
+        // miss new work
+        private void idle() throws InterruptedException {
+            synchronized (workSignal) {
+                while (!hasQueuedWork()) {
+                    workSignal.wait();
+                }
+            }
+        }
+    }
+
+    // Units of one station and the items waiting for one, oldest first
+    private static final class StationLine {
+        private final Semaphore units;
+        private final ConcurrentLinkedQueue<WorkItem> waiting = new ConcurrentLinkedQueue<>();
+
+        private StationLine(int units) {
+            this.units = new Semaphore(units);
+        }
+    }
+}
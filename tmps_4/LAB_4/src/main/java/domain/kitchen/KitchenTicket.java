@@ -0,0 +1,32 @@
+package domain.kitchen;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Tracks one order's outstanding work items; completes when the last one is done
+final class KitchenTicket {
+    private final String orderId;
+    private final int drinkCount;
+    private final AtomicInteger remaining;
+    private final CompletableFuture<Void> done;
+
+    KitchenTicket(String orderId, int drinkCount) {
+        this.orderId = orderId;
+        this.drinkCount = drinkCount;
+        this.remaining = new AtomicInteger();
+        this.done = new CompletableFuture<>();
+    }
+
+    void expect(int items) {
+        remaining.addAndGet(items);
+    }
+
+    // True for the call that finished the last item
+    boolean itemDone() {
+        return remaining.decrementAndGet() == 0;
+    }
+
+    String getOrderId() { return orderId; }
+    int getDrinkCount() { return drinkCount; }
+    CompletableFuture<Void> getDone() { return done; }
+}
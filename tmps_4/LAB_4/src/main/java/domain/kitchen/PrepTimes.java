@@ -0,0 +1,38 @@
+package domain.kitchen;
+
+import domain.models.Coffee;
+import domain.models.food.Food;
+
+// Shop-time durations of each preparation step, shared by the live kitchen and the simulator
+public final class PrepTimes {
+    private static final long ESPRESSO_PULL_MS = 25_000;
+    private static final long EXTRA_SHOT_MS = 5_000;
+    private static final long STEAM_MILK_MS = 20_000;
+    private static final long OVEN_WARM_MS = 60_000;
+    private static final long PLATE_FOOD_MS = 10_000;
+
+    private PrepTimes() {
+    }
+
+    public static long espressoPullMillis(Coffee drink) {
+        return ESPRESSO_PULL_MS + Math.max(0, drink.getShots() - 1) * EXTRA_SHOT_MS;
+    }
+
+    public static boolean needsSteaming(Coffee drink) {
+        return drink.getMilkType() != null;
+    }
+
+    public static long steamMillis(Coffee drink) {
+        int volumePercent = drink.getSize() == null ? 100 : drink.getSize().getVolumePercent();
+        return STEAM_MILK_MS * volumePercent / 100;
+    }
+
+    // House-made food is warmed in the oven; vendor food is plated at the counter
+    public static Station foodStation(Food food) {
+        return food.isHouseMade() ? Station.OVEN : Station.COUNTER;
+    }
+
+    public static long foodMillis(Food food) {
+        return food.isHouseMade() ? OVEN_WARM_MS : PLATE_FOOD_MS;
+    }
+}
@@ -0,0 +1,20 @@
+package domain.kitchen;
+
+// Equipment a work item needs. units = how many can be used at once; 0 means any free barista.
+public enum Station {
+    ESPRESSO_GROUP("Espresso group head", 2),
+    STEAM_WAND("Steam wand", 1),
+    OVEN("Oven", 1),
+    COUNTER("Counter", 0);
+
+    private final String displayName;
+    private final int units;
+
+    Station(String displayName, int units) {
+        this.displayName = displayName;
+        this.units = units;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public int getUnits() { return units; }
+}
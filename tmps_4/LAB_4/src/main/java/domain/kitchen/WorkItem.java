@@ -0,0 +1,23 @@
+package domain.kitchen;
+
+// One step of one order line, done at a single station
+final class WorkItem {
+    private final KitchenTicket ticket;
+    private final String description;
+    private final Station station;
+    private final long prepMillis;
+
+    WorkItem(KitchenTicket ticket, String description, Station station, long prepMillis) {
+        this.ticket = ticket;
+        this.description = description;
+        this.station = station;
+        this.prepMillis = prepMillis;
+    }
+
+    KitchenTicket getTicket() { return ticket; }
+    String getDescription() { return description; }
+    Station getStation() { return station; }
+
+    // Shop time - the dispatcher divides it by its speed-up
+    long getPrepMillis() { return prepMillis; }
+}
@@ -10,5 +10,6 @@ public class Americano extends Coffee {
         this.maxShots = 3;
         this.defaultShots = 2;       // Typically comes with 2 shots
         this.shots = defaultShots;
+        this.waterMl = 150;          // Hot water topped up over the shots
     }
 }
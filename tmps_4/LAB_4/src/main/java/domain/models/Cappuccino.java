@@ -10,5 +10,6 @@ public class Cappuccino extends Coffee {
         this.maxShots = 2;
         this.defaultShots = 1;
         this.shots = defaultShots;
+        this.milkMl = 100;
     }
 }
@@ -1,7 +1,7 @@
 package domain.models;
 
-import domain.factory.CoffeeShopConfig;
 import domain.models.enums.*;
+import domain.pricing.PricingEngine;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -13,7 +13,7 @@ public abstract class Coffee {
     protected List<Extra> extras;
     protected int shots;
     protected boolean iced;
-    protected double finalPrice;
+    protected long finalPriceCents;
 
     // Coffee type characteristics
     protected boolean requiresMilk;
@@ -23,6 +23,10 @@ public abstract class Coffee {
     protected int maxShots;
     protected int defaultShots;
 
+    // Recipe amounts for a small drink, on top of the espresso shots
+    protected int waterMl;
+    protected int milkMl;
+
     public Coffee(String name, double basePrice) {
         this.name = name;
         this.basePrice = basePrice;
@@ -37,26 +41,12 @@ public abstract class Coffee {
         this.maxShots = 4;
         this.defaultShots = 1;
         this.shots = defaultShots;
+        this.waterMl = 0;
+        this.milkMl = 0;
     }
 
     public void calculatePrice() {
-        CoffeeShopConfig config = CoffeeShopConfig.getInstance();
-        finalPrice = basePrice;
-
-        if (size != null) {
-            finalPrice += size.getPriceModifier();
-        }
-
-        if (milkType != null) {
-            finalPrice += milkType.getExtraCharge();
-        }
-
-        for (Extra extra : extras) {
-            finalPrice += extra.getPrice();
-        }
-
-        // Additional shots cost extra
-        finalPrice += (shots - defaultShots) * config.getShotPrice();
+        finalPriceCents = PricingEngine.getInstance().quoteCents(this);
     }
 
     public String getDescription() {
@@ -91,13 +81,20 @@ public abstract class Coffee {
         return basePrice;
     }
     public String getName() { return name; }
-    public double getFinalPrice() { return finalPrice; }
+    public long getFinalPriceCents() { return finalPriceCents; }
     public boolean requiresMilk() { return requiresMilk; }
     public boolean allowsMilk() { return allowsMilk; }
     public boolean canBeIced() { return canBeIced; }
     public int getMinShots() { return minShots; }
     public int getMaxShots() { return maxShots; }
     public int getDefaultShots() { return defaultShots; }
+    public int getWaterMl() { return waterMl; }
+    public int getMilkMl() { return milkMl; }
+    public Size getSize() { return size; }
+    public MilkType getMilkType() { return milkType; }
+    public List<Extra> getExtras() { return extras; }
+    public int getShots() { return shots; }
+    public boolean isIced() { return iced; }
 
     // Setters
     public void setSize(Size size) { this.size = size; }
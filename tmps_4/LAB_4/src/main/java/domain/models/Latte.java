@@ -10,5 +10,6 @@ public class Latte extends Coffee {
         this.maxShots = 2;
         this.defaultShots = 1;
         this.shots = defaultShots;
+        this.milkMl = 180;
     }
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package domain.models;
 
+import domain.factory.CoffeeShopConfig;
 import domain.models.food.Food;
+import domain.pricing.Money;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 
@@ -10,37 +13,81 @@ public class Order {
     private String orderId;
     private List<Coffee> drinks;
     private List<Food> foods;
+    private List<Coffee> drinkView;
+    private List<Food> foodView;
+
+    // Frozen copy handed to validators and observers; dropped whenever the order changes
+    private OrderSnapshot snapshot;
+
+    // Kept up to date on every add/remove so totals never re-scan the lines
+    private long subtotalCents;
 
     public Order(String orderId) {
         this.orderId = orderId;
         this.drinks = new ArrayList<>();
         this.foods = new ArrayList<>();
+        this.drinkView = Collections.unmodifiableList(drinks);
+        this.foodView = Collections.unmodifiableList(foods);
+        this.subtotalCents = 0;
     }
 
     public void addDrink(Coffee drink) {
         drinks.add(drink);
+        snapshot = null;
+        subtotalCents += drink.getFinalPriceCents();
     }
 
     public void addFood(Food food) {
         foods.add(food);
+        snapshot = null;
+        // Walks the decorator chain once here instead of on every total
+        subtotalCents += food.getFinalPriceCents();
+    }
+
+    public boolean removeDrink(Coffee drink) {
+        if (!drinks.remove(drink)) {
+            return false;
+        }
+        snapshot = null;
+        subtotalCents -= drink.getFinalPriceCents();
+        return true;
+    }
+
+    public boolean removeFood(Food food) {
+        if (!foods.remove(food)) {
+            return false;
+        }
+        snapshot = null;
+        subtotalCents -= food.getFinalPriceCents();
+        return true;
     }
 
     public boolean isEmpty() {
         return drinks.isEmpty() && foods.isEmpty();
     }
 
-    public double getTotal() {
-        double total = 0.0;
+    public long getTotalCents() {
+        return subtotalCents;
+    }
 
-        for (Coffee drink : drinks) {
-            total += drink.getFinalPrice();
-        }
+    public long getTaxCents() {
+        return CoffeeShopConfig.getInstance().calculateTax(subtotalCents);
+    }
 
-        for (Food food : foods) {
-            total += food.getFinalPrice();
-        }
+    public long getTotalWithTaxCents() {
+        return subtotalCents + getTaxCents();
+    }
+
+    public int getDrinkCount() {
+        return drinks.size();
+    }
 
-        return total;
+    public int getFoodCount() {
+        return foods.size();
+    }
+
+    public int getItemCount() {
+        return drinks.size() + foods.size();
     }
 
     public void displayOrder() {
@@ -59,8 +106,8 @@ public class Order {
             System.out.println("\n DRINKS:");
             for (int i = 0; i < drinks.size(); i++) {
                 Coffee drink = drinks.get(i);
-                System.out.printf("  %d. %s - $%.2f%n",
-                        i + 1, drink.getDescription(), drink.getFinalPrice());
+                System.out.printf("  %d. %s - $%s%n",
+                        i + 1, drink.getDescription(), Money.format(drink.getFinalPriceCents()));
             }
         }
 
@@ -68,13 +115,13 @@ public class Order {
             System.out.println("\n FOOD:");
             for (int i = 0; i < foods.size(); i++) {
                 Food food = foods.get(i);
-                System.out.printf("  %d. %s - $%.2f%n",
-                        i + 1, food.getDescription(), food.getFinalPrice());
+                System.out.printf("  %d. %s - $%s%n",
+                        i + 1, food.getDescription(), Money.format(food.getFinalPriceCents()));
             }
         }
 
         System.out.println("\n" + "-".repeat(60));
-        System.out.printf("SUBTOTAL: $%.2f%n", getTotal());
+        System.out.println("SUBTOTAL: $" + Money.format(getTotalCents()));
         System.out.println("=".repeat(60));
     }
 
@@ -83,11 +130,20 @@ public class Order {
         return orderId;
     }
 
+    // Read-only live views - take a snapshot() to hand the order to other threads
     public List<Coffee> getDrinks() {
-        return new ArrayList<>(drinks); // Return copy for safety
+        return drinkView;
     }
 
     public List<Food> getFoods() {
-        return new ArrayList<>(foods); // Return copy for safety
+        return foodView;
+    }
+
+    public OrderSnapshot snapshot() {
+        if (snapshot == null) {
+            snapshot = new OrderSnapshot(orderId,
+                    drinks.toArray(new Coffee[0]), foods.toArray(new Food[0]), subtotalCents);
+        }
+        return snapshot;
     }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package domain.models;
+
+import domain.models.food.Food;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Read-only picture of an order, frozen once and shared by every validator and observer.
+// The list views are created with the snapshot, so reads never copy.
+public final class OrderSnapshot {
+    private final String orderId;
+    private final Coffee[] drinks;
+    private final Food[] foods;
+    private final List<Coffee> drinkView;
+    private final List<Food> foodView;
+    private final long totalCents;
+
+    OrderSnapshot(String orderId, Coffee[] drinks, Food[] foods, long totalCents) {
+        this.orderId = orderId;
+        this.drinks = drinks;
+        this.foods = foods;
+        this.drinkView = Collections.unmodifiableList(Arrays.asList(drinks));
+        this.foodView = Collections.unmodifiableList(Arrays.asList(foods));
+        this.totalCents = totalCents;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public int getDrinkCount() {
+        return drinks.length;
+    }
+
+    public Coffee getDrink(int index) {
+        return drinks[index];
+    }
+
+    public int getFoodCount() {
+        return foods.length;
+    }
+
+    public Food getFood(int index) {
+        return foods[index];
+    }
+
+    public int getItemCount() {
+        return drinks.length + foods.length;
+    }
+
+    public boolean isEmpty() {
+        return drinks.length == 0 && foods.length == 0;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public List<Coffee> getDrinks() {
+        return drinkView;
+    }
+
+    public List<Food> getFoods() {
+        return foodView;
+    }
+}
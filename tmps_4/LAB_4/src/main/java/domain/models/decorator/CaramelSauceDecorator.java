@@ -1,13 +1,21 @@
 package domain.models.decorator;
 
 import domain.models.food.Food;
+import domain.models.inventory.Ingredient;
+import domain.models.inventory.Recipe;
+import domain.pricing.Money;
 
 public class CaramelSauceDecorator extends FoodDecorator {
 
-    private static final double CARAMEL_PRICE = 0.80;
+    private static final int CARAMEL_ML = 20;
+    private static final long CARAMEL_PRICE_CENTS = 80;
+
+    private final Recipe recipe;
 
     public CaramelSauceDecorator(Food base) {
         super(base);
+        // The chain below never changes, so resolve the whole recipe once
+        this.recipe = base.getRecipe().plus(Ingredient.CARAMEL_SAUCE, CARAMEL_ML);
     }
 
     @Override
@@ -16,12 +24,17 @@ public class CaramelSauceDecorator extends FoodDecorator {
     }
 
     @Override
-    public double getFinalPrice() {
-        return base.getFinalPrice() + CARAMEL_PRICE;
+    public long getFinalPriceCents() {
+        return base.getFinalPriceCents() + CARAMEL_PRICE_CENTS;
     }
 
     @Override
     public double getBasePrice() {
-        return CARAMEL_PRICE;
+        return Money.toDollars(CARAMEL_PRICE_CENTS);
+    }
+
+    @Override
+    public Recipe getRecipe() {
+        return recipe;
     }
 }
@@ -1,6 +1,7 @@
 package domain.models.decorator;
 
 import domain.models.food.Food;
+import domain.models.inventory.Recipe;
 
 public abstract class FoodDecorator implements Food {
 
@@ -21,7 +22,17 @@ public abstract class FoodDecorator implements Food {
     }
 
     @Override
-    public double getFinalPrice() {
-        return base.getFinalPrice();
+    public long getFinalPriceCents() {
+        return base.getFinalPriceCents();
+    }
+
+    @Override
+    public Recipe getRecipe() {
+        return base.getRecipe();
+    }
+
+    @Override
+    public boolean isHouseMade() {
+        return base.isHouseMade();
     }
 }
@@ -1,12 +1,20 @@
 package domain.models.decorator;
 import domain.models.food.Food;
+import domain.models.inventory.Ingredient;
+import domain.models.inventory.Recipe;
+import domain.pricing.Money;
 
 public class PistachioPasteDecorator extends FoodDecorator {
 
-    private static final double PISTACHIO_PRICE = 1.20;
+    private static final int PISTACHIO_GRAMS = 15;
+    private static final long PISTACHIO_PRICE_CENTS = 120;
+
+    private final Recipe recipe;
 
     public PistachioPasteDecorator(Food base) {
         super(base);
+        // The chain below never changes, so resolve the whole recipe once
+        this.recipe = base.getRecipe().plus(Ingredient.PISTACHIO_PASTE, PISTACHIO_GRAMS);
     }
 
     @Override
@@ -15,12 +23,17 @@ public class PistachioPasteDecorator extends FoodDecorator {
     }
 
     @Override
-    public double getFinalPrice() {
-        return base.getFinalPrice() + PISTACHIO_PRICE;
+    public long getFinalPriceCents() {
+        return base.getFinalPriceCents() + PISTACHIO_PRICE_CENTS;
     }
 
     @Override
     public double getBasePrice() {
-        return PISTACHIO_PRICE;
+        return Money.toDollars(PISTACHIO_PRICE_CENTS);
+    }
+
+    @Override
+    public Recipe getRecipe() {
+        return recipe;
     }
 }
@@ -0,0 +1,36 @@
+package domain.models.enums;
+
+public enum CoffeeType {
+    ESPRESSO("espresso"),
+    AMERICANO("americano"),
+    CAPPUCCINO("cappuccino"),
+    LATTE("latte");
+
+    private static final CoffeeType[] VALUES = values();
+
+    private final String typeName;
+
+    CoffeeType(String typeName) {
+        this.typeName = typeName;
+    }
+
+    public String getTypeName() { return typeName; }
+
+    public static CoffeeType fromName(String typeName) {
+        CoffeeType type = find(typeName);
+        if (type == null) {
+            throw new IllegalArgumentException("Unsupported coffee type: " + typeName);
+        }
+        return type;
+    }
+
+    // null for names that are not built in, e.g. plug-in drinks
+    public static CoffeeType find(String typeName) {
+        for (CoffeeType type : VALUES) {
+            if (type.typeName.equalsIgnoreCase(typeName)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
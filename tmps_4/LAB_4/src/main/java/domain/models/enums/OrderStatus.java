@@ -0,0 +1,49 @@
+package domain.models.enums;
+
+public enum OrderStatus {
+    CREATED,
+    CONFIRMED,
+    PREPARING,
+    READY,
+    COMPLETED;
+
+    private static final OrderStatus[] VALUES = values();
+    public static final int COUNT = VALUES.length;
+
+    // Bit per status for subscription filters: ALL_MASK matches every status
+    public static final int ALL_MASK = (1 << COUNT) - 1;
+
+    // TRANSITIONS[from.ordinal()][to.ordinal()] - filled once, read with two array loads
+    private static final boolean[][] TRANSITIONS = new boolean[COUNT][COUNT];
+
+    static {
+        allow(CREATED, CONFIRMED);
+        allow(CONFIRMED, PREPARING);
+        allow(PREPARING, READY);
+        allow(READY, COMPLETED);
+    }
+
+    private static void allow(OrderStatus from, OrderStatus to) {
+        TRANSITIONS[from.ordinal()][to.ordinal()] = true;
+    }
+
+    public boolean canTransitionTo(OrderStatus next) {
+        return TRANSITIONS[ordinal()][next.ordinal()];
+    }
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    public static int maskOf(OrderStatus... statuses) {
+        int mask = 0;
+        for (OrderStatus status : statuses) {
+            mask |= status.mask();
+        }
+        return mask;
+    }
+
+    public static OrderStatus fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -1,17 +1,24 @@
 package domain.models.enums;
 
 public enum Size {
-    SMALL(0.0),
-    MEDIUM(0.50),
-    LARGE(1.00);
+    SMALL(0.0, 100),
+    MEDIUM(0.50, 135),
+    LARGE(1.00, 170);
 
     private final double priceModifier;
+    // Water and milk relative to a small drink
+    private final int volumePercent;
 
-    Size(double priceModifier) {
+    Size(double priceModifier, int volumePercent) {
         this.priceModifier = priceModifier;
+        this.volumePercent = volumePercent;
     }
 
     public double getPriceModifier() {
         return priceModifier;
     }
+
+    public int getVolumePercent() {
+        return volumePercent;
+    }
 }
\ No newline at end of file
@@ -1,8 +1,12 @@
 package domain.models.food;
 import domain.models.food.bridge.FoodSource;
+import domain.models.inventory.Ingredient;
+import domain.models.inventory.Recipe;
+import domain.pricing.Money;
 
 public class Croissant implements Food {
-    private static final double BASE_PRICE = 2.50;
+    private static final long BASE_PRICE_CENTS = 250;
+    private static final Recipe RECIPE = Recipe.of(Ingredient.CROISSANT, 1);
 
     private final FoodSource source;
 
@@ -21,12 +25,22 @@ public class Croissant implements Food {
     }
 
     @Override
-    public double getFinalPrice() {
-        return source.adjustPrice(BASE_PRICE);
+    public long getFinalPriceCents() {
+        return source.adjustPriceCents(BASE_PRICE_CENTS);
     }
 
     @Override
     public double getBasePrice() {
-        return BASE_PRICE;
+        return Money.toDollars(BASE_PRICE_CENTS);
+    }
+
+    @Override
+    public Recipe getRecipe() {
+        return RECIPE;
+    }
+
+    @Override
+    public boolean isHouseMade() {
+        return source.isHouseMade();
     }
 }
@@ -1,9 +1,13 @@
 package domain.models.food;
 
+import domain.models.inventory.Recipe;
+
 public interface Food {
 
     String getName();
     String getDescription();
-    double getFinalPrice();
+    long getFinalPriceCents();
     double getBasePrice();
+    Recipe getRecipe();
+    boolean isHouseMade();
 }
\ No newline at end of file
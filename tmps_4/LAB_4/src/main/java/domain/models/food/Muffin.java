@@ -1,10 +1,14 @@
 package domain.models.food;
 
 import domain.models.food.bridge.FoodSource;
+import domain.models.inventory.Ingredient;
+import domain.models.inventory.Recipe;
+import domain.pricing.Money;
 
 public class Muffin implements Food {
 
-    private static final double BASE_PRICE = 2.00;
+    private static final long BASE_PRICE_CENTS = 200;
+    private static final Recipe RECIPE = Recipe.of(Ingredient.MUFFIN, 1);
 
     private final FoodSource source;
 
@@ -23,11 +27,21 @@ public class Muffin implements Food {
     }
 
     @Override
-    public double getFinalPrice() {
-        return source.adjustPrice(BASE_PRICE);
+    public long getFinalPriceCents() {
+        return source.adjustPriceCents(BASE_PRICE_CENTS);
     }
     @Override
     public double getBasePrice() {
-        return BASE_PRICE;
+        return Money.toDollars(BASE_PRICE_CENTS);
+    }
+
+    @Override
+    public Recipe getRecipe() {
+        return RECIPE;
+    }
+
+    @Override
+    public boolean isHouseMade() {
+        return source.isHouseMade();
     }
 }
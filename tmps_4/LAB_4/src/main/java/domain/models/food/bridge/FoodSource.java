@@ -2,6 +2,7 @@ package domain.models.food.bridge;
 
 public interface FoodSource {
     String getSourceDescription();
-    double adjustPrice(double basePrice);
+    long adjustPriceCents(long basePriceCents);
     double getPriceModifier();
+    boolean isHouseMade();
 }
\ No newline at end of file
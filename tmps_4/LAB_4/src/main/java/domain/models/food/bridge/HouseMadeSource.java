@@ -9,13 +9,18 @@ public class HouseMadeSource implements FoodSource {
     }
 
     @Override
-    public double adjustPrice(double basePrice) {
+    public long adjustPriceCents(long basePriceCents) {
         // slightly more expensive due to quality
-        return basePrice + 0.50;
+        return basePriceCents + 50;
     }
 
     @Override
     public double getPriceModifier() {
         return 0.50;
     }
+
+    @Override
+    public boolean isHouseMade() {
+        return true;
+    }
 }
@@ -8,12 +8,17 @@ public class VendorSource implements FoodSource {
     }
 
     @Override
-    public double adjustPrice(double basePrice) {
-        return basePrice;
+    public long adjustPriceCents(long basePriceCents) {
+        return basePriceCents;
     }
 
     @Override
     public double getPriceModifier() {
         return 0.0;
     }
+
+    @Override
+    public boolean isHouseMade() {
+        return false;
+    }
 }
@@ -0,0 +1,120 @@
+package domain.models.inventory;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Hashed timing wheel: scheduling and cancelling are O(1), and each tick only looks at
+// one bucket, so millions of pending timeouts cost nothing until they are due.
+// Buckets belong to the ticker thread; other threads hand new timeouts over through a queue.
+public class HashedTimingWheel {
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Timeout>[] buckets;
+    private final Queue<Timeout> pendingTimeouts;
+    private final ScheduledExecutorService ticker;
+    private final long startNanos;
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int bucketCount) {
+        if (Integer.bitCount(bucketCount) != 1) {
+            throw new IllegalArgumentException("Bucket count must be a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = bucketCount - 1;
+        this.buckets = (Queue<Timeout>[]) new Queue<?>[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.pendingTimeouts = new ConcurrentLinkedQueue<>();
+        this.startNanos = System.nanoTime();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "timing-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public Timeout schedule(Runnable task, long delayMillis) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        long deadlineTick = (elapsedMillis + delayMillis + tickMillis - 1) / tickMillis;
+        Timeout timeout = new Timeout(task, deadlineTick);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    private void tick() {
+        transferPendingTimeouts();
+
+        Queue<Timeout> bucket = buckets[(int) (currentTick & mask)];
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+            } else if (timeout.deadlineTick <= currentTick) {
+                iterator.remove();
+                timeout.expire();
+            }
+        }
+        currentTick++;
+    }
+
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            // Already overdue timeouts go into the bucket that is about to be processed
+            long tick = Math.max(timeout.deadlineTick, currentTick);
+            buckets[(int) (tick & mask)].add(timeout);
+        }
+    }
+
+    public void stop() {
+        ticker.shutdownNow();
+    }
+
+    public static class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadlineTick;
+        private final AtomicInteger state;
+
+        private Timeout(Runnable task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+            this.state = new AtomicInteger(PENDING);
+        }
+
+        // False when the timeout already fired
+        public boolean cancel() {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        private void expire() {
+            if (state.compareAndSet(PENDING, EXPIRED)) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    System.out.println(" Timeout task failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+}
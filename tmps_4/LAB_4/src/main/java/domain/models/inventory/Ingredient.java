@@ -0,0 +1,39 @@
+package domain.models.inventory;
+
+// Everything the shop keeps stock of. The ordinal is the slot in every recipe vector.
+public enum Ingredient {
+    COFFEE_BEANS("coffee_beans", "Coffee Beans", "g"),
+    WATER("water", "Water", "ml"),
+    MILK("milk", "Milk", "ml"),
+    CARAMEL_SAUCE("caramel_sauce", "Caramel Sauce", "ml"),
+    PISTACHIO_PASTE("pistachio_paste", "Pistachio Paste", "g"),
+    CROISSANT("croissant", "Croissant", "pcs"),
+    MUFFIN("muffin", "Muffin", "pcs");
+
+    static final Ingredient[] VALUES = values();
+    public static final int COUNT = VALUES.length;
+
+    private final String key;
+    private final String displayName;
+    private final String unit;
+
+    Ingredient(String key, String displayName, String unit) {
+        this.key = key;
+        this.displayName = displayName;
+        this.unit = unit;
+    }
+
+    public String getKey() { return key; }
+    public String getDisplayName() { return displayName; }
+    public String getUnit() { return unit; }
+
+    // Returns null for names the shop does not stock
+    public static Ingredient fromKey(String key) {
+        for (Ingredient ingredient : VALUES) {
+            if (ingredient.key.equals(key)) {
+                return ingredient;
+            }
+        }
+        return null;
+    }
+}
@@ -1,38 +1,150 @@
 package domain.models.inventory;
 
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class InventoryItem {
     private String itemName;
-    private int quantity;
+    private String unit;
     private int lowStockThreshold;
 
+    // Units free to sell, and units held by reservations that are not committed yet.
+    // Each counter moves with CAS, so registers never block one another.
+    private final AtomicInteger available;
+    private final AtomicInteger reserved;
+
+    // Units physically in the shop: moves on sales and deliveries only, never on holds, so an
+    // abandoned or expiring hold cannot page anyone. Stock levels and alerts follow this.
+    private final AtomicInteger onHand;
+
+    // Last level seen; an alert goes out only when a change moves the item across a threshold.
+    // Written only under levelLock, so crossings are published in the order they happened.
+    private volatile StockLevel level;
+    private final Object levelLock = new Object();
+    private volatile StockAlertPublisher alerts;
+
+    // Standalone stock (simulations) sells thousands of items; it skips the per-sale line
+    private volatile boolean quiet;
+
     public InventoryItem(String itemName, int initialQuantity, int lowStockThreshold) {
+        this(itemName, "", initialQuantity, lowStockThreshold);
+    }
+
+    public InventoryItem(String itemName, String unit, int initialQuantity, int lowStockThreshold) {
         this.itemName = itemName;
-        this.quantity = initialQuantity;
+        this.unit = unit;
+        this.available = new AtomicInteger(initialQuantity);
+        this.reserved = new AtomicInteger();
+        this.onHand = new AtomicInteger(initialQuantity);
         this.lowStockThreshold = lowStockThreshold;
+        this.level = StockLevel.of(initialQuantity, lowStockThreshold);
+    }
+
+    void setAlertPublisher(StockAlertPublisher alerts) {
+        this.alerts = alerts;
+    }
+
+    void setQuiet(boolean quiet) {
+        this.quiet = quiet;
     }
 
     public boolean hasStock(int required) {
-        return quantity >= required;
+        return available.get() >= required;
+    }
+
+    public boolean reduceStock(int amount) {
+        if (tryReserve(amount)) {
+            commitReserved(amount);
+            return true;
+        }
+        return false;
+    }
+
+    void addStock(int amount) {
+        available.addAndGet(amount);
+        onHand.addAndGet(amount);
+        updateLevel();
+    }
+
+    // Sets the quantity recovered from the journal; only used before the shop opens
+    void restore(int quantity) {
+        available.set(quantity);
+        onHand.set(quantity);
+        updateLevel();
     }
 
-    public void reduceStock(int amount) {
-        if (amount <= quantity) {
-            quantity -= amount;
-            System.out.println(" " + itemName + ": " + quantity + " remaining");
+    // Takes units out of the available pool only if all of them are there
+    boolean tryReserve(int amount) {
+        int current;
+        do {
+            current = available.get();
+            if (current < amount) {
+                return false;
+            }
+        } while (!available.compareAndSet(current, current - amount));
+        reserved.addAndGet(amount);
+        return true;
+    }
 
-            if (quantity <= lowStockThreshold) {
-                System.out.println("  LOW STOCK WARNING: " + itemName);
+    void commitReserved(int amount) {
+        reserved.addAndGet(-amount);
+        onHand.addAndGet(-amount);
+        updateLevel();
+        if (!quiet) {
+            int quantity = available.get();
+            System.out.println(" " + itemName + ": " + quantity + (unit.isEmpty() ? "" : " " + unit) + " remaining");
+        }
+    }
+
+    void releaseReserved(int amount) {
+        reserved.addAndGet(-amount);
+        available.addAndGet(amount);
+    }
+
+    // Two reads on the common path; only a crossing takes the lock. The quantity is read again
+    // under the lock, because the caller's figure may already be stale - acting on it could
+    // leave OUT_OF_STOCK showing after another register restocked. The last caller to change
+    // the stock always leaves the level matching it.
+    private void updateLevel() {
+        if (StockLevel.of(onHand.get(), lowStockThreshold) == level) {
+            return;
+        }
+        synchronized (levelLock) {
+            int quantity = onHand.get();
+            StockLevel next = StockLevel.of(quantity, lowStockThreshold);
+            StockLevel previous = level;
+            if (next != previous) {
+                level = next;
+                StockAlertPublisher publisher = alerts;
+                if (publisher != null) {
+                    publisher.publish(new StockAlert(itemName, unit, next, quantity), previous);
+                }
             }
         }
     }
 
+    public StockLevel getLevel() {
+        return level;
+    }
+
     public String getItemName() {
         return itemName;
     }
 
+    public String getUnit() {
+        return unit;
+    }
+
     public int getQuantity() {
-        return quantity;
+        return onHand.get();
+    }
+
+    public int getAvailable() {
+        return available.get();
+    }
+
+    public int getReserved() {
+        return reserved.get();
     }
 
-}
\ No newline at end of file
+}
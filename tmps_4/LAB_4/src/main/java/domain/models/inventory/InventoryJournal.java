@@ -0,0 +1,358 @@
+package domain.models.inventory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+// Durable stock: an append-only log of per-ingredient deltas plus a memory-mapped snapshot.
+// Appends are batched by one writer thread that fsyncs each batch once (group commit).
+// Every SNAPSHOT_EVERY records the quantities are snapshotted and the log is emptied, so
+// recovery reads the snapshot and replays only the log tail written after it.
+final class InventoryJournal {
+    static final String LOG_FILE = "inventory.wal";
+    private static final String SNAPSHOT_FILE = "inventory.snapshot";
+
+    // Log record: sequence (8) + ingredient ordinal (4) + delta (4)
+    private static final int RECORD_BYTES = 16;
+    private static final int BATCH_RECORDS = 4096;
+
+    // Snapshot: magic, ingredient count, last sequence covered, then one int per ingredient
+    private static final int SNAPSHOT_MAGIC = 0x494E5631;
+    private static final int SNAPSHOT_HEADER_BYTES = 16;
+    private static final int SNAPSHOT_EVERY = 100_000;
+
+    private final Path logFile;
+    private final Path snapshotFile;
+    private final FileChannel log;
+
+    // Quantities as of the last fsynced batch; only the writer thread touches it after open
+    private final int[] durable;
+    private long recordsSinceSnapshot;
+    private boolean recovered;
+
+    // Appenders fill `pending` under the lock; the writer swaps it with `writing` and flushes
+    private final Object lock = new Object();
+    private ByteBuffer pending;
+    private ByteBuffer writing;
+    private long nextSeq;
+    private long durableSeq;
+    private boolean closed;
+    private IOException failure;
+
+    // Callbacks waiting for their group's last sequence to be fsynced, in sequence order
+    private final ArrayDeque<Long> callbackSeqs = new ArrayDeque<>();
+    private final ArrayDeque<Runnable> callbacks = new ArrayDeque<>();
+
+    private final Thread writer;
+
+    // Recovers into quantities (which hold the defaults on entry) and starts the writer
+    InventoryJournal(Path directory, int[] quantities) throws IOException {
+        Files.createDirectories(directory);
+        this.logFile = directory.resolve(LOG_FILE);
+        this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+
+        long snapshotSeq = readSnapshot(quantities);
+        this.log = FileChannel.open(logFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long lastSeq = replayLog(quantities, snapshotSeq);
+
+        this.durable = quantities.clone();
+        this.nextSeq = lastSeq + 1;
+        this.durableSeq = lastSeq;
+        this.pending = ByteBuffer.allocateDirect(BATCH_RECORDS * RECORD_BYTES);
+        this.writing = ByteBuffer.allocateDirect(BATCH_RECORDS * RECORD_BYTES);
+
+        if (!recovered) {
+            // First start: the defaults become the baseline
+            writeSnapshot(lastSeq);
+        }
+
+        this.writer = new Thread(this::runWriter, "inventory-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    boolean isRecovered() {
+        return recovered;
+    }
+
+    // ============ RECOVERY ============
+
+    private long readSnapshot(int[] quantities) throws IOException {
+        if (!Files.exists(snapshotFile)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            if (channel.size() < SNAPSHOT_HEADER_BYTES) {
+                return 0;
+            }
+            MappedByteBuffer snapshot = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (snapshot.getInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Not an inventory snapshot: " + snapshotFile);
+            }
+            int count = snapshot.getInt();
+            long seq = snapshot.getLong();
+            // Ingredients added since the snapshot keep their default quantity
+            for (int i = 0; i < count && i < quantities.length; i++) {
+                quantities[i] = snapshot.getInt(SNAPSHOT_HEADER_BYTES + i * 4);
+            }
+            recovered = true;
+            return seq;
+        }
+    }
+
+    // Applies records newer than the snapshot; a torn record at the end is cut off
+    private long replayLog(int[] quantities, long snapshotSeq) throws IOException {
+        long lastSeq = snapshotSeq;
+        long validBytes = 0;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BATCH_RECORDS * RECORD_BYTES);
+
+        log.position(0);
+        while (log.read(buffer) > 0) {
+            buffer.flip();
+            while (buffer.remaining() >= RECORD_BYTES) {
+                long seq = buffer.getLong();
+                int ingredient = buffer.getInt();
+                int delta = buffer.getInt();
+                validBytes += RECORD_BYTES;
+                if (seq > snapshotSeq && ingredient >= 0 && ingredient < quantities.length) {
+                    quantities[ingredient] += delta;
+                    recovered = true;
+                }
+                lastSeq = Math.max(lastSeq, seq);
+            }
+            buffer.compact();
+        }
+
+        if (validBytes < log.size()) {
+            log.truncate(validBytes);
+        }
+        log.position(validBytes);
+        recordsSinceSnapshot = validBytes / RECORD_BYTES;
+        return lastSeq;
+    }
+
+    // ============ APPEND ============
+
+    // Queues a delta and returns its sequence number; pass it to awaitDurable to wait for fsync
+    long append(int ingredient, int delta) {
+        synchronized (lock) {
+            while (pending.remaining() < RECORD_BYTES) {
+                checkUsable();
+                waitOnLock();
+            }
+            checkUsable();
+            long seq = nextSeq++;
+            pending.putLong(seq).putInt(ingredient).putInt(delta);
+            lock.notifyAll();
+            return seq;
+        }
+    }
+
+    // Queues count records (sign * amounts[i] for ingredients[i]) back to back and runs onDurable
+    // on the writer thread once all of them are fsynced. Nothing here waits for the disk, only
+    // for buffer space when the writer is far behind. Returns false when the journal is closed
+    // or has failed; the caller then applies the change in memory only.
+    boolean append(int[] ingredients, int[] amounts, int count, int sign, Runnable onDurable) {
+        int bytes = count * RECORD_BYTES;
+        synchronized (lock) {
+            while (pending.remaining() < bytes && failure == null && !closed) {
+                waitOnLock();
+            }
+            if (failure != null || closed) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                pending.putLong(nextSeq++).putInt(ingredients[i]).putInt(sign * amounts[i]);
+            }
+            callbackSeqs.addLast(nextSeq - 1);
+            callbacks.addLast(onDurable);
+            lock.notifyAll();
+            return true;
+        }
+    }
+
+    void awaitDurable(long seq) {
+        synchronized (lock) {
+            // Still fine after close(): the writer drains everything queued before it stops
+            while (durableSeq < seq) {
+                if (failure != null) {
+                    throw new IllegalStateException("Inventory journal failed", failure);
+                }
+                waitOnLock();
+            }
+        }
+    }
+
+    private void checkUsable() {
+        if (failure != null) {
+            throw new IllegalStateException("Inventory journal failed", failure);
+        }
+        if (closed) {
+            throw new IllegalStateException("Inventory journal is closed");
+        }
+    }
+
+    private void waitOnLock() {
+        try {
+            lock.wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while journaling stock", e);
+        }
+    }
+
+    // ============ WRITER ============
+
+    private void runWriter() {
+        while (true) {
+            long batchEnd;
+            synchronized (lock) {
+                while (pending.position() == 0 && !closed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pending.position() == 0) {
+                    return;
+                }
+                ByteBuffer full = pending;
+                pending = writing;
+                writing = full;
+                batchEnd = nextSeq - 1;
+                // Appenders blocked on a full buffer can carry on with the swapped-in one
+                lock.notifyAll();
+            }
+
+            try {
+                flush(writing, batchEnd);
+            } catch (IOException e) {
+                List<Runnable> stranded;
+                synchronized (lock) {
+                    failure = e;
+                    lock.notifyAll();
+                    stranded = takeCallbacks(Long.MAX_VALUE);
+                }
+                System.out.println(" Inventory journal stopped: " + e.getMessage());
+                // From here on stock lives in memory only, as when the journal cannot be opened
+                runCallbacks(stranded);
+                return;
+            }
+
+            List<Runnable> ready;
+            synchronized (lock) {
+                durableSeq = batchEnd;
+                lock.notifyAll();
+                ready = takeCallbacks(batchEnd);
+            }
+            runCallbacks(ready);
+        }
+    }
+
+    // Called holding lock
+    private List<Runnable> takeCallbacks(long upToSeq) {
+        List<Runnable> ready = new ArrayList<>();
+        while (!callbackSeqs.isEmpty() && callbackSeqs.peekFirst() <= upToSeq) {
+            callbackSeqs.pollFirst();
+            ready.add(callbacks.pollFirst());
+        }
+        return ready;
+    }
+
+    private static void runCallbacks(List<Runnable> ready) {
+        for (Runnable callback : ready) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                System.out.println(" Journaled stock change failed to apply: " + e.getMessage());
+            }
+        }
+    }
+
+    private void flush(ByteBuffer batch, long batchEnd) throws IOException {
+        batch.flip();
+        for (int offset = 0; offset < batch.limit(); offset += RECORD_BYTES) {
+            durable[batch.getInt(offset + 8)] += batch.getInt(offset + 12);
+        }
+        recordsSinceSnapshot += batch.limit() / RECORD_BYTES;
+
+        while (batch.hasRemaining()) {
+            log.write(batch);
+        }
+        log.force(false);
+        batch.clear();
+
+        if (recordsSinceSnapshot >= SNAPSHOT_EVERY) {
+            writeSnapshot(batchEnd);
+        }
+    }
+
+    // Written beside the live snapshot and moved over it, so a crash leaves one or the other.
+    // Records up to seq are skipped on replay, so emptying the log afterwards is only a cleanup.
+    private void writeSnapshot(long seq) throws IOException {
+        Path tempFile = snapshotFile.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        int size = SNAPSHOT_HEADER_BYTES + durable.length * 4;
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer snapshot = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            snapshot.putInt(SNAPSHOT_MAGIC).putInt(durable.length).putLong(seq);
+            for (int quantity : durable) {
+                snapshot.putInt(quantity);
+            }
+            snapshot.force();
+        }
+        Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // The rename lives in the directory entry; it must be on disk before the log is emptied
+        forceDirectory(snapshotFile.getParent());
+
+        log.truncate(0);
+        log.position(0);
+        recordsSinceSnapshot = 0;
+    }
+
+    // Some platforms (Windows) cannot open a directory as a channel; there the move is
+    // durable once it returns and this is skipped
+    private static void forceDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException | UnsupportedOperationException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    // Flushes what is queued, snapshots, and releases the files
+    void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            writer.join();
+            if (failure == null) {
+                writeSnapshot(durableSeq);
+            }
+            log.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            System.out.println(" Could not close inventory journal: " + e.getMessage());
+        }
+    }
+}
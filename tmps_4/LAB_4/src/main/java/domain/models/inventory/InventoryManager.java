@@ -1,48 +1,341 @@
 package domain.models.inventory;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class InventoryManager {
-    private static InventoryManager instance;
-    private Map<String, InventoryItem> inventory;
+    // One item per Ingredient, indexed by ordinal so recipe vectors line up with it
+    private final InventoryItem[] stock;
+
+    private static final long DEFAULT_RESERVATION_TTL_MS = 120_000;
+
+    // Where the stock journal lives; override with -Dcoffeeshop.inventoryDir=...
+    // The default is under the user's home, so running from a checkout never writes into it.
+    private static final String INVENTORY_DIR_PROPERTY = "coffeeshop.inventoryDir";
+
+    // Low / out-of-stock crossings, batched per item over this window
+    private static final long STOCK_ALERT_WINDOW_MS = 250;
+    private final StockAlertPublisher stockAlerts;
+
+    // Null when the journal could not be opened - the shop then runs on in-memory stock
+    private final InventoryJournal journal;
+
+    // Stock held per order ID between reservation and commit / release
+    private final ConcurrentMap<String, StockReservation> reservations;
+
+    // Holds that are never paid for run out on their own - no sweep over all reservations
+    private final HashedTimingWheel reservationExpiry;
+    private volatile long reservationTtlMillis;
+
+    // False for standalone stock, which its owner shuts down with close()
+    private final boolean persistent;
 
     private InventoryManager() {
-        this.inventory = new HashMap<>();
+        this(true);
+    }
+
+    // Non-persistent stock has no journal and prints nothing - no alerts, sales or expiries;
+    // it lives and dies with its owner
+    private InventoryManager(boolean persistent) {
+        this.persistent = persistent;
+        this.stock = new InventoryItem[Ingredient.COUNT];
+        this.reservations = new ConcurrentHashMap<>();
+        this.reservationExpiry = new HashedTimingWheel(100, 512);
+        this.reservationTtlMillis = DEFAULT_RESERVATION_TTL_MS;
+        this.stockAlerts = new StockAlertPublisher(STOCK_ALERT_WINDOW_MS);
+        if (persistent) {
+            stockAlerts.subscribe(this::printStockAlert);
+        }
         initializeInventory();
+        this.journal = persistent ? openJournal() : null;
+    }
+
+    // Initialization-on-demand holder: lazy and thread-safe without locking on every call
+    private static class Holder {
+        private static final InventoryManager INSTANCE = new InventoryManager();
     }
 
     public static InventoryManager getInstance() {
-        if (instance == null) {
-            instance = new InventoryManager();
+        return Holder.INSTANCE;
+    }
+
+    // Separate in-memory stock with the default opening quantities, e.g. for simulations. Quiet:
+    // it prints nothing. It runs its own expiry and alert threads - close() it when done.
+    public static InventoryManager createStandalone() {
+        return new InventoryManager(false);
+    }
+
+    // Stops the expiry and alert threads of standalone stock; holds still open never expire
+    public void close() {
+        if (persistent) {
+            throw new IllegalStateException("The shop's inventory stays open for the life of the process");
         }
-        return instance;
+        reservationExpiry.stop();
+        stockAlerts.shutdown();
     }
 
     private void initializeInventory() {
-        inventory.put("coffee_beans", new InventoryItem("Coffee Beans", 100, 20));
-        inventory.put("milk", new InventoryItem("Milk", 50, 10));
-        inventory.put("water", new InventoryItem("Water", 200, 30));
-        inventory.put("caramel_sauce", new InventoryItem("Caramel Sauce", 30, 5));
-        inventory.put("pistachio_paste", new InventoryItem("Pistachio Paste", 25, 5));
-        inventory.put("croissant", new InventoryItem("Croissant", 3, 1));
-        inventory.put("muffin", new InventoryItem("Muffin", 2, 1));
+        stock(Ingredient.COFFEE_BEANS, 900, 180);
+        stock(Ingredient.MILK, 9000, 1800);
+        stock(Ingredient.WATER, 36000, 5400);
+        stock(Ingredient.CARAMEL_SAUCE, 600, 100);
+        stock(Ingredient.PISTACHIO_PASTE, 375, 75);
+        stock(Ingredient.CROISSANT, 3, 1);
+        stock(Ingredient.MUFFIN, 2, 1);
+    }
+
+    private InventoryJournal openJournal() {
+        String configured = System.getProperty(INVENTORY_DIR_PROPERTY);
+        Path directory = configured != null ? Paths.get(configured)
+                : Paths.get(System.getProperty("user.home"), ".coffeeshop", "inventory");
+        int[] quantities = new int[stock.length];
+        for (int i = 0; i < stock.length; i++) {
+            quantities[i] = stock[i].getQuantity();
+        }
+
+        InventoryJournal opened;
+        try {
+            opened = new InventoryJournal(directory, quantities);
+        } catch (IOException e) {
+            System.out.println(" Inventory journal unavailable, stock will not survive a restart: " + e.getMessage());
+            return null;
+        }
+
+        if (opened.isRecovered()) {
+            for (int i = 0; i < stock.length; i++) {
+                stock[i].restore(quantities[i]);
+            }
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(opened::close, "inventory-journal-close"));
+        return opened;
+    }
+
+    private void stock(Ingredient ingredient, int quantity, int lowStockThreshold) {
+        InventoryItem item = new InventoryItem(ingredient.getDisplayName(), ingredient.getUnit(),
+                quantity, lowStockThreshold);
+        item.setAlertPublisher(stockAlerts);
+        item.setQuiet(!persistent);
+        stock[ingredient.ordinal()] = item;
+    }
+
+    private void printStockAlert(StockAlert alert) {
+        switch (alert.getLevel()) {
+            case LOW:
+                System.out.println("  LOW STOCK WARNING: " + alert.getItemName()
+                        + " (" + alert.getAvailable() + " " + alert.getUnit() + " left)");
+                break;
+            case OUT_OF_STOCK:
+                System.out.println("  OUT OF STOCK: " + alert.getItemName());
+                break;
+            case IN_STOCK:
+                System.out.println("  Back in stock: " + alert.getItemName());
+                break;
+        }
+    }
+
+    public void subscribeToStockAlerts(StockAlertListener listener) {
+        stockAlerts.subscribe(listener);
+    }
+
+    public void unsubscribeFromStockAlerts(StockAlertListener listener) {
+        stockAlerts.unsubscribe(listener);
     }
 
     public boolean checkAvailability(String itemName, int quantity) {
-        InventoryItem item = inventory.get(itemName);
+        InventoryItem item = getItem(itemName);
         return item != null && item.hasStock(quantity);
     }
 
+    // True if every ingredient of the recipe is in stock
+    public boolean checkAvailability(Recipe recipe) {
+        for (int i = 0; i < stock.length; i++) {
+            int amount = recipe.amount(i);
+            if (amount > 0 && !stock[i].hasStock(amount)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // First ingredient the summed demand cannot be met for, or null when all of it is in stock.
+    // One read per ingredient however many lines the order has; the hold itself is tryReserve.
+    public Ingredient findShortage(int[] demand) {
+        for (int i = 0; i < stock.length; i++) {
+            if (demand[i] > 0 && !stock[i].hasStock(demand[i])) {
+                return Ingredient.VALUES[i];
+            }
+        }
+        return null;
+    }
+
+    // Same check for an order that may already hold stock: its own held units count as
+    // available to it, so validating an order a second time does not trip over its own hold
+    public Ingredient findShortage(String orderId, int[] demand) {
+        StockReservation held = reservations.get(orderId);
+        if (held == null) {
+            return findShortage(demand);
+        }
+        for (int i = 0; i < stock.length; i++) {
+            if (demand[i] > 0 && !stock[i].hasStock(demand[i] - held.getAmount(i))) {
+                return Ingredient.VALUES[i];
+            }
+        }
+        return null;
+    }
+
+    // Free units plus whatever orderId is already holding
+    public int getAvailableTo(String orderId, Ingredient ingredient) {
+        StockReservation held = reservations.get(orderId);
+        int available = stock[ingredient.ordinal()].getAvailable();
+        return held == null ? available : available + held.getAmount(ingredient.ordinal());
+    }
+
+    // Write-ahead like every stock change: the units are held first so nobody else can take
+    // them, and only count as sold once the delta is on disk. Waits for the fsync.
     public void reduceStock(String itemName, int quantity) {
-        InventoryItem item = inventory.get(itemName);
-        if (item != null) {
-            item.reduceStock(quantity);
+        Ingredient ingredient = Ingredient.fromKey(itemName);
+        if (ingredient == null) {
+            return;
+        }
+        InventoryItem item = stock[ingredient.ordinal()];
+        if (!item.tryReserve(quantity)) {
+            return;
+        }
+        try {
+            journal(ingredient.ordinal(), -quantity);
+        } catch (RuntimeException e) {
+            item.releaseReserved(quantity);
+            throw e;
+        }
+        item.commitReserved(quantity);
+    }
+
+    // Deliveries: journaled first, then added, so the caller sees the stock on return
+    public void restock(Ingredient ingredient, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Restock quantity must be positive: " + quantity);
+        }
+        journal(ingredient.ordinal(), quantity);
+        stock[ingredient.ordinal()].addStock(quantity);
+    }
+
+    private void journal(int ingredient, int delta) {
+        if (journal != null) {
+            journal.awaitDurable(journal.append(ingredient, delta));
+        }
+    }
+
+    // ============ RESERVATIONS ============
+
+    // All-or-nothing: either every item is held for the order, or nothing is.
+    // Each item is claimed with CAS and rolled back on the first shortage, so no global lock.
+    // demand is indexed by Ingredient ordinal, as built by StockDemand
+    public boolean tryReserve(String orderId, int[] demand) {
+        StockReservation existing = reservations.get(orderId);
+        if (existing != null) {
+            if (existing.holds(demand)) {
+                return true;
+            }
+            // The order changed since it was held: its old units go back first, so they count
+            // toward the new demand
+            if (reservations.remove(orderId, existing)) {
+                existing.release();
+            }
+        }
+
+        // Sized to the ingredients actually needed; the reservation keeps these arrays
+        int lines = 0;
+        for (int amount : demand) {
+            if (amount != 0) {
+                lines++;
+            }
+        }
+        InventoryItem[] items = new InventoryItem[lines];
+        int[] ingredients = new int[lines];
+        int[] amounts = new int[lines];
+        int claimed = 0;
+
+        for (int i = 0; i < stock.length; i++) {
+            int amount = demand[i];
+            if (amount == 0) {
+                continue;
+            }
+            InventoryItem item = stock[i];
+            if (!item.tryReserve(amount)) {
+                for (int j = 0; j < claimed; j++) {
+                    items[j].releaseReserved(amounts[j]);
+                }
+                return false;
+            }
+            items[claimed] = item;
+            ingredients[claimed] = i;
+            amounts[claimed] = amount;
+            claimed++;
         }
+
+        StockReservation reservation = new StockReservation(orderId, items, ingredients, amounts);
+        if (reservations.putIfAbsent(orderId, reservation) != null) {
+            // Another thread reserved the same order first - give ours back and check what it holds
+            reservation.release();
+            return tryReserve(orderId, demand);
+        }
+        reservation.setExpiry(reservationExpiry.schedule(() -> expire(reservation), reservationTtlMillis));
+        return true;
+    }
+
+    private void expire(StockReservation reservation) {
+        if (reservations.remove(reservation.getOrderId(), reservation) && reservation.release() && persistent) {
+            System.out.println(" Stock hold for order " + reservation.getOrderId() + " expired and was released");
+        }
+    }
+
+    public void setReservationTtlMillis(long reservationTtlMillis) {
+        this.reservationTtlMillis = reservationTtlMillis;
+    }
+
+    public long getReservationTtlMillis() {
+        return reservationTtlMillis;
+    }
+
+    public boolean hasReservation(String orderId) {
+        return reservations.containsKey(orderId);
+    }
+
+    // Turns the held units into sold units. Taking the reservation out of the map settles who
+    // owns it: expiry and release can no longer touch it. The sale is then written ahead - the
+    // deltas go to the journal and the units only count as sold once they are fsynced. They stay
+    // out of the free pool meanwhile, so nothing can be oversold, and the caller (an observer
+    // lane) returns without waiting for the disk.
+    public boolean commitReservation(String orderId) {
+        StockReservation reservation = reservations.remove(orderId);
+        if (reservation == null) {
+            return false;
+        }
+        int[] ingredients = reservation.getIngredients();
+        if (journal == null || !journal.append(ingredients, reservation.getAmounts(), ingredients.length, -1,
+                reservation::commit)) {
+            reservation.commit();
+        }
+        return true;
     }
 
+    public void releaseReservation(String orderId) {
+        StockReservation reservation = reservations.remove(orderId);
+        if (reservation != null) {
+            reservation.release();
+        }
+    }
+
+
+    public InventoryItem getItem(Ingredient ingredient) {
+        return stock[ingredient.ordinal()];
+    }
 
     public InventoryItem getItem(String itemName) {
-        return inventory.get(itemName);
+        Ingredient ingredient = Ingredient.fromKey(itemName);
+        return ingredient == null ? null : stock[ingredient.ordinal()];
     }
-}
\ No newline at end of file
+}
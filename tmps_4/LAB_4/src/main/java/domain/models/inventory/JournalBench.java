@@ -0,0 +1,67 @@
+package domain.models.inventory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+// Measures journal throughput and crash recovery. Several threads append single-ingredient
+// deltas and wait for durability every few records, like orders committing their
+// reservations. The journal is then reopened from the same files without a clean close,
+// which is what a restart after a crash sees.
+// Usage: JournalBench [events] [threads]
+public class JournalBench {
+    // Records per simulated order, i.e. appends between two durability waits
+    private static final int RECORDS_PER_ORDER = 8;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int events = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int threadCount = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        Path directory = Files.createTempDirectory("inventory-bench");
+
+        int[] quantities = new int[Ingredient.COUNT];
+        Arrays.fill(quantities, 1_000_000_000);
+        InventoryJournal journal = new InventoryJournal(directory, quantities);
+
+        int perThread = events / threadCount;
+        Thread[] threads = new Thread[threadCount];
+        long start = System.nanoTime();
+        for (int t = 0; t < threadCount; t++) {
+            int ingredient = t % Ingredient.COUNT;
+            threads[t] = new Thread(() -> {
+                for (int i = 1; i <= perThread; i++) {
+                    long seq = journal.append(ingredient, -1);
+                    if (i % RECORDS_PER_ORDER == 0 || i == perThread) {
+                        journal.awaitDurable(seq);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long appended = (long) perThread * threadCount;
+        System.out.printf("%d deltas from %d threads in %.2f s = %.0f deltas/s%n",
+                appended, threadCount, seconds, appended / seconds);
+
+        long logBytes = Files.size(directory.resolve(InventoryJournal.LOG_FILE));
+        int[] recovered = new int[Ingredient.COUNT];
+        Arrays.fill(recovered, 1_000_000_000);
+        start = System.nanoTime();
+        new InventoryJournal(directory, recovered);
+        System.out.printf("Recovery after %d events: %.1f ms (%d bytes of log past the last snapshot)%n",
+                appended, (System.nanoTime() - start) / 1e6, logBytes);
+
+        long expected = 1_000_000_000L * Ingredient.COUNT - appended;
+        long actual = 0;
+        for (int quantity : recovered) {
+            actual += quantity;
+        }
+        System.out.println(actual == expected ? "Recovered stock matches" : "MISMATCH: " + actual + " vs " + expected);
+
+        // The first journal's writer is left running, as a crashed process would leave its files
+        Runtime.getRuntime().halt(actual == expected ? 0 : 1);
+    }
+}
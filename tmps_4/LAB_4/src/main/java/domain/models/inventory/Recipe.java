@@ -0,0 +1,54 @@
+package domain.models.inventory;
+
+// Bill of materials for one item: how much of each ingredient it uses, indexed by ordinal.
+// Immutable, so one instance is shared by every item with the same configuration.
+public final class Recipe {
+    public static final Recipe EMPTY = new Recipe(new int[Ingredient.COUNT]);
+
+    private final int[] amounts;
+
+    private Recipe(int[] amounts) {
+        this.amounts = amounts;
+    }
+
+    public static Recipe of(Ingredient ingredient, int amount) {
+        return EMPTY.plus(ingredient, amount);
+    }
+
+    public Recipe plus(Ingredient ingredient, int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Negative amount of " + ingredient.getDisplayName() + ": " + amount);
+        }
+        int[] copy = amounts.clone();
+        copy[ingredient.ordinal()] += amount;
+        return new Recipe(copy);
+    }
+
+    public int get(Ingredient ingredient) {
+        return amounts[ingredient.ordinal()];
+    }
+
+    // Adds this recipe into a running total vector of length Ingredient.COUNT
+    public void addTo(int[] totals) {
+        for (int i = 0; i < amounts.length; i++) {
+            totals[i] += amounts[i];
+        }
+    }
+
+    int amount(int ingredientIndex) {
+        return amounts[ingredientIndex];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (Ingredient ingredient : Ingredient.VALUES) {
+            int amount = amounts[ingredient.ordinal()];
+            if (amount > 0) {
+                if (text.length() > 0) text.append(", ");
+                text.append(amount).append(ingredient.getUnit()).append(' ').append(ingredient.getDisplayName());
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,89 @@
+package domain.models.inventory;
+
+import domain.factory.CoffeeFactoryRegistry;
+import domain.factory.CoffeeTypeSpec;
+import domain.models.Coffee;
+import domain.models.enums.Size;
+
+import java.util.List;
+
+// Every drink configuration resolved to its Recipe up front, so a stock check is a table
+// lookup instead of parsing the drink's description.
+public final class RecipeBook {
+    // One espresso shot
+    static final int BEANS_GRAMS_PER_SHOT = 9;
+    static final int WATER_ML_PER_SHOT = 30;
+
+    // Milk for a type that allows milk but does not declare an amount
+    static final int DEFAULT_MILK_ML = 30;
+
+    // Slot 0 of the size dimension means "not chosen"
+    private static final int SIZE_SLOTS = Size.values().length + 1;
+    private static final int MILK_SLOTS = 2;
+
+    private final CoffeeFactoryRegistry coffeeFactories;
+    private final int shotSlots;
+    private final Recipe[] drinkRecipes;
+
+    private RecipeBook() {
+        this.coffeeFactories = CoffeeFactoryRegistry.getInstance();
+
+        List<CoffeeTypeSpec> specs = coffeeFactories.getSpecs();
+        int maxShots = 0;
+        for (CoffeeTypeSpec spec : specs) {
+            maxShots = Math.max(maxShots, spec.getMaxShots());
+        }
+        this.shotSlots = maxShots + 1;
+        this.drinkRecipes = new Recipe[specs.size() * SIZE_SLOTS * MILK_SLOTS * shotSlots];
+
+        Size[] sizes = Size.values();
+        for (CoffeeTypeSpec spec : specs) {
+            for (int size = 0; size < SIZE_SLOTS; size++) {
+                int volumePercent = size == 0 ? 100 : sizes[size - 1].getVolumePercent();
+                for (int milk = 0; milk < MILK_SLOTS; milk++) {
+                    for (int shots = 0; shots < shotSlots; shots++) {
+                        drinkRecipes[index(spec.getTypeIndex(), size, milk, shots)] =
+                                compile(spec, volumePercent, milk == 1, shots);
+                    }
+                }
+            }
+        }
+    }
+
+    private static class Holder {
+        private static final RecipeBook INSTANCE = new RecipeBook();
+    }
+
+    public static RecipeBook getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static Recipe compile(CoffeeTypeSpec spec, int volumePercent, boolean withMilk, int shots) {
+        Recipe recipe = Recipe.of(Ingredient.COFFEE_BEANS, shots * BEANS_GRAMS_PER_SHOT)
+                .plus(Ingredient.WATER, shots * WATER_ML_PER_SHOT + scale(spec.getWaterMl(), volumePercent));
+        if (withMilk) {
+            int milkMl = spec.getMilkMl() > 0 ? spec.getMilkMl() : DEFAULT_MILK_ML;
+            recipe = recipe.plus(Ingredient.MILK, scale(milkMl, volumePercent));
+        }
+        return recipe;
+    }
+
+    private static int scale(int smallMl, int volumePercent) {
+        return (smallMl * volumePercent + 50) / 100;
+    }
+
+    private int index(int typeIndex, int sizeSlot, int milkSlot, int shots) {
+        return ((typeIndex * SIZE_SLOTS + sizeSlot) * MILK_SLOTS + milkSlot) * shotSlots + shots;
+    }
+
+    public Recipe recipeFor(Coffee coffee) {
+        int shots = coffee.getShots();
+        if (shots < 0 || shots >= shotSlots) {
+            throw new IllegalArgumentException(coffee.getName() + " cannot have " + shots + " shots");
+        }
+        CoffeeTypeSpec spec = coffeeFactories.getSpec(coffee);
+        int sizeSlot = coffee.getSize() == null ? 0 : coffee.getSize().ordinal() + 1;
+        int milkSlot = coffee.getMilkType() == null ? 0 : 1;
+        return drinkRecipes[index(spec.getTypeIndex(), sizeSlot, milkSlot, shots)];
+    }
+}
@@ -0,0 +1,21 @@
+package domain.models.inventory;
+
+// An item moved to a different StockLevel; immutable, safe to hand to any thread
+public final class StockAlert {
+    private final String itemName;
+    private final String unit;
+    private final StockLevel level;
+    private final int available;
+
+    StockAlert(String itemName, String unit, StockLevel level, int available) {
+        this.itemName = itemName;
+        this.unit = unit;
+        this.level = level;
+        this.available = available;
+    }
+
+    public String getItemName() { return itemName; }
+    public String getUnit() { return unit; }
+    public StockLevel getLevel() { return level; }
+    public int getAvailable() { return available; }
+}
@@ -0,0 +1,5 @@
+package domain.models.inventory;
+
+public interface StockAlertListener {
+    void onStockAlert(StockAlert alert);
+}
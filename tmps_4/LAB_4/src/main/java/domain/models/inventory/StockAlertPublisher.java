@@ -0,0 +1,68 @@
+package domain.models.inventory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Delivers stock level changes off the sales path. The first crossing for an item opens a
+// window; later crossings in that window only replace the pending alert. When the window
+// closes, listeners get the latest level once - and nothing if the item ended where it began.
+public class StockAlertPublisher {
+    private final long windowMillis;
+    private final List<StockAlertListener> listeners;
+
+    // Latest undelivered alert per item, and the level listeners last heard about
+    private final Map<String, StockAlert> pendingAlerts;
+    private final Map<String, StockLevel> deliveredLevels;
+    private final ScheduledExecutorService dispatcher;
+
+    public StockAlertPublisher(long windowMillis) {
+        this.windowMillis = windowMillis;
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.pendingAlerts = new ConcurrentHashMap<>();
+        this.deliveredLevels = new ConcurrentHashMap<>();
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "stock-alerts");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void subscribe(StockAlertListener listener) {
+        listeners.add(listener);
+    }
+
+    public void unsubscribe(StockAlertListener listener) {
+        listeners.remove(listener);
+    }
+
+    // Called from the sales path: never blocks and never runs listener code
+    void publish(StockAlert alert, StockLevel previous) {
+        deliveredLevels.putIfAbsent(alert.getItemName(), previous);
+        if (pendingAlerts.put(alert.getItemName(), alert) == null) {
+            dispatcher.schedule(() -> deliver(alert.getItemName()), windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void deliver(String itemName) {
+        StockAlert alert = pendingAlerts.remove(itemName);
+        if (alert == null || deliveredLevels.put(itemName, alert.getLevel()) == alert.getLevel()) {
+            return;
+        }
+        for (StockAlertListener listener : listeners) {
+            try {
+                listener.onStockAlert(alert);
+            } catch (RuntimeException e) {
+                System.out.println(" Stock alert listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    public void shutdown() {
+        dispatcher.shutdown();
+    }
+}
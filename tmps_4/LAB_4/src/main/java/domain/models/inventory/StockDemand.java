@@ -0,0 +1,24 @@
+package domain.models.inventory;
+
+import domain.models.OrderSnapshot;
+
+// What an order takes out of inventory, summed over all of its lines
+public final class StockDemand {
+
+    private StockDemand() {
+    }
+
+    // Vector indexed by Ingredient ordinal
+    public static int[] of(OrderSnapshot order) {
+        int[] demand = new int[Ingredient.COUNT];
+        RecipeBook recipes = RecipeBook.getInstance();
+
+        for (int i = 0; i < order.getDrinkCount(); i++) {
+            recipes.recipeFor(order.getDrink(i)).addTo(demand);
+        }
+        for (int i = 0; i < order.getFoodCount(); i++) {
+            order.getFood(i).getRecipe().addTo(demand);
+        }
+        return demand;
+    }
+}
@@ -0,0 +1,13 @@
+package domain.models.inventory;
+
+public enum StockLevel {
+    IN_STOCK,
+    LOW,
+    OUT_OF_STOCK;
+
+    static StockLevel of(int available, int lowStockThreshold) {
+        if (available <= 0) return OUT_OF_STOCK;
+        if (available <= lowStockThreshold) return LOW;
+        return IN_STOCK;
+    }
+}
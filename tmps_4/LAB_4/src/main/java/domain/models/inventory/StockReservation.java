@@ -0,0 +1,101 @@
+package domain.models.inventory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Units held for one order. Settles exactly once: either committed (sold) or released.
+public class StockReservation {
+    private final String orderId;
+    private final InventoryItem[] items;
+    private final int[] ingredients;
+    private final int[] amounts;
+    private final AtomicBoolean settled;
+    private volatile HashedTimingWheel.Timeout expiry;
+
+    StockReservation(String orderId, InventoryItem[] items, int[] ingredients, int[] amounts) {
+        this.orderId = orderId;
+        this.items = items;
+        this.ingredients = ingredients;
+        this.amounts = amounts;
+        this.settled = new AtomicBoolean();
+    }
+
+    void setExpiry(HashedTimingWheel.Timeout expiry) {
+        this.expiry = expiry;
+    }
+
+    boolean commit() {
+        if (!settled.compareAndSet(false, true)) {
+            return false;
+        }
+        cancelExpiry();
+        for (int i = 0; i < items.length; i++) {
+            items[i].commitReserved(amounts[i]);
+        }
+        return true;
+    }
+
+    boolean release() {
+        if (!settled.compareAndSet(false, true)) {
+            return false;
+        }
+        cancelExpiry();
+        for (int i = 0; i < items.length; i++) {
+            items[i].releaseReserved(amounts[i]);
+        }
+        return true;
+    }
+
+    private void cancelExpiry() {
+        if (expiry != null) {
+            expiry.cancel();
+        }
+    }
+
+    // Ingredient ordinals, parallel to getAmounts()
+    int[] getIngredients() {
+        return ingredients;
+    }
+
+    int[] getAmounts() {
+        return amounts;
+    }
+
+    // True while unsettled and holding exactly demand (amounts by ingredient ordinal)
+    boolean holds(int[] demand) {
+        if (settled.get()) {
+            return false;
+        }
+        int lines = 0;
+        for (int amount : demand) {
+            if (amount != 0) {
+                lines++;
+            }
+        }
+        if (lines != ingredients.length) {
+            return false;
+        }
+        for (int i = 0; i < ingredients.length; i++) {
+            if (demand[ingredients[i]] != amounts[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Units of one ingredient (by ordinal) held here; 0 once settled
+    int getAmount(int ingredient) {
+        if (settled.get()) {
+            return 0;
+        }
+        for (int i = 0; i < ingredients.length; i++) {
+            if (ingredients[i] == ingredient) {
+                return amounts[i];
+            }
+        }
+        return 0;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+}
@@ -0,0 +1,8 @@
+package domain.observer.publisher;
+
+// What an asynchronous OrderSubject does when a subscriber's queue is full
+public enum BackpressurePolicy {
+    BLOCK,          // the publisher waits for room - nothing is lost
+    DROP_OLDEST,    // the oldest queued notification is discarded
+    COALESCE        // the newest queued notification is replaced - the latest status wins
+}
@@ -0,0 +1,52 @@
+package domain.observer.publisher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Counts one order's notifications still sitting in observer mailboxes. A notification counts
+// as settled once its observer has run or it was dropped, coalesced or discarded by a detach.
+final class DeliveryTracker {
+    private int pending;
+    private List<Runnable> callbacks;
+
+    synchronized void queued() {
+        pending++;
+    }
+
+    // Callbacks run on the thread that settles the last notification, outside the lock
+    void settled() {
+        List<Runnable> ready;
+        synchronized (this) {
+            if (--pending > 0) {
+                return;
+            }
+            notifyAll();
+            ready = callbacks;
+            callbacks = null;
+        }
+        if (ready != null) {
+            for (Runnable callback : ready) {
+                callback.run();
+            }
+        }
+    }
+
+    void whenSettled(Runnable callback) {
+        synchronized (this) {
+            if (pending > 0) {
+                if (callbacks == null) {
+                    callbacks = new ArrayList<>(1);
+                }
+                callbacks.add(callback);
+                return;
+            }
+        }
+        callback.run();
+    }
+
+    synchronized void awaitSettled() throws InterruptedException {
+        while (pending > 0) {
+            wait();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package domain.observer.publisher;
+
+import domain.models.OrderSnapshot;
+import domain.models.enums.OrderStatus;
+import domain.observer.subscribers.OrderStatusObserver;
+
+import java.util.concurrent.Executor;
+
+// Bounded queue in front of one observer. At most one drain task runs at a time, so the
+// observer sees notifications in publish order without needing a thread of its own.
+final class ObserverMailbox implements OrderStatusObserver {
+    // Notifications handled before the drain task gives its pool thread back
+    private static final int DRAIN_BATCH = 32;
+
+    private final OrderStatusObserver observer;
+    private final Executor executor;
+    private final BackpressurePolicy policy;
+    private final int capacity;
+    private final Runnable drainTask = this::drain;
+
+    // Everything below is guarded by this. The queue is a ring of preallocated slots, one
+    // array per field, so queueing a notification allocates nothing.
+    private final OrderStatus[] statuses;
+    private final OrderSnapshot[] orders;
+    private final long[] publishedNanos;
+    private final DeliveryTracker[] trackers;
+    private int head;
+    private int size;
+    private boolean draining;
+    private boolean closed;
+    private int maxDepth;
+    private long delivered;
+    private long dropped;
+    private long coalesced;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+
+    ObserverMailbox(OrderStatusObserver observer, Executor executor, BackpressurePolicy policy, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be at least 1");
+        }
+        this.observer = observer;
+        this.executor = executor;
+        this.policy = policy;
+        this.capacity = capacity;
+        this.statuses = new OrderStatus[capacity];
+        this.orders = new OrderSnapshot[capacity];
+        this.publishedNanos = new long[capacity];
+        this.trackers = new DeliveryTracker[capacity];
+    }
+
+    OrderStatusObserver getObserver() {
+        return observer;
+    }
+
+    @Override
+    public void update(OrderStatus status, OrderSnapshot order) {
+        offer(status, order, null);
+    }
+
+    // tracker, if given, hears when this notification is handled or thrown away
+    void offer(OrderStatus status, OrderSnapshot order, DeliveryTracker tracker) {
+        long now = System.nanoTime();
+        DeliveryTracker discarded = null;
+        boolean startDrain;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (size >= capacity) {
+                switch (policy) {
+                    case BLOCK:
+                        while (size >= capacity && !closed) {
+                            waitOnMailbox();
+                        }
+                        if (closed) {
+                            return;
+                        }
+                        break;
+                    case DROP_OLDEST:
+                        discarded = trackers[head];
+                        clearSlot(head);
+                        head = nextSlot(head);
+                        size--;
+                        dropped++;
+                        break;
+                    case COALESCE:
+                        int last = slotAt(size - 1);
+                        discarded = trackers[last];
+                        clearSlot(last);
+                        size--;
+                        coalesced++;
+                        break;
+                }
+            }
+            if (tracker != null) {
+                tracker.queued();
+            }
+            int tail = slotAt(size);
+            statuses[tail] = status;
+            orders[tail] = order;
+            publishedNanos[tail] = now;
+            trackers[tail] = tracker;
+            size++;
+            maxDepth = Math.max(maxDepth, size);
+            startDrain = !draining;
+            draining = true;
+        }
+        // Settled outside the lock - the tracker may run callbacks
+        settle(discarded);
+        if (startDrain) {
+            executor.execute(drainTask);
+        }
+    }
+
+    private void drain() {
+        for (int handled = 0; handled < DRAIN_BATCH; handled++) {
+            OrderStatus status;
+            OrderSnapshot order;
+            long published;
+            DeliveryTracker tracker;
+            synchronized (this) {
+                if (size == 0) {
+                    draining = false;
+                    return;
+                }
+                status = statuses[head];
+                order = orders[head];
+                published = publishedNanos[head];
+                tracker = trackers[head];
+                clearSlot(head);
+                head = nextSlot(head);
+                size--;
+                // Room for a blocked publisher
+                notifyAll();
+            }
+
+            try {
+                observer.update(status, order);
+            } catch (RuntimeException e) {
+                System.out.println(" Observer " + observer.getClass().getSimpleName() + " failed: " + e.getMessage());
+            }
+            settle(tracker);
+
+            long latency = System.nanoTime() - published;
+            synchronized (this) {
+                delivered++;
+                totalLatencyNanos += latency;
+                maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+            }
+        }
+        // Still busy - requeue behind other subscribers instead of holding the thread
+        executor.execute(drainTask);
+    }
+
+    // Detached observers get nothing more, like in synchronous mode
+    void close() {
+        DeliveryTracker[] discarded;
+        synchronized (this) {
+            closed = true;
+            discarded = new DeliveryTracker[size];
+            for (int i = 0; i < size; i++) {
+                discarded[i] = trackers[slotAt(i)];
+                clearSlot(slotAt(i));
+            }
+            size = 0;
+            notifyAll();
+        }
+        for (DeliveryTracker tracker : discarded) {
+            settle(tracker);
+        }
+    }
+
+    // Slot of the i-th queued notification, counting from the oldest
+    private int slotAt(int i) {
+        int slot = head + i;
+        return slot < capacity ? slot : slot - capacity;
+    }
+
+    private int nextSlot(int slot) {
+        return slot + 1 < capacity ? slot + 1 : 0;
+    }
+
+    // Drops the references so delivered orders can be collected
+    private void clearSlot(int slot) {
+        statuses[slot] = null;
+        orders[slot] = null;
+        trackers[slot] = null;
+    }
+
+    private static void settle(DeliveryTracker tracker) {
+        if (tracker != null) {
+            tracker.settled();
+        }
+    }
+
+    synchronized ObserverMetrics metrics() {
+        return new ObserverMetrics(observer.getClass().getSimpleName(), size, maxDepth,
+                delivered, dropped, coalesced, totalLatencyNanos, maxLatencyNanos);
+    }
+
+    private void waitOnMailbox() {
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + observer.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package domain.observer.publisher;
+
+// Point-in-time counters for one subscriber's queue
+public final class ObserverMetrics {
+    private final String observerName;
+    private final int queueDepth;
+    private final int maxQueueDepth;
+    private final long delivered;
+    private final long dropped;
+    private final long coalesced;
+    private final long totalLatencyNanos;
+    private final long maxLatencyNanos;
+
+    ObserverMetrics(String observerName, int queueDepth, int maxQueueDepth, long delivered,
+                    long dropped, long coalesced, long totalLatencyNanos, long maxLatencyNanos) {
+        this.observerName = observerName;
+        this.queueDepth = queueDepth;
+        this.maxQueueDepth = maxQueueDepth;
+        this.delivered = delivered;
+        this.dropped = dropped;
+        this.coalesced = coalesced;
+        this.totalLatencyNanos = totalLatencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+    }
+
+    public String getObserverName() { return observerName; }
+    public int getQueueDepth() { return queueDepth; }
+    public int getMaxQueueDepth() { return maxQueueDepth; }
+    public long getDelivered() { return delivered; }
+    public long getDropped() { return dropped; }
+    public long getCoalesced() { return coalesced; }
+    public long getMaxLatencyNanos() { return maxLatencyNanos; }
+
+    // From publish to the end of update()
+    public long getAverageLatencyNanos() {
+        return delivered == 0 ? 0 : totalLatencyNanos / delivered;
+    }
+
+    // Combines two queues of the same observer: counts and current depth add up, maxima do not
+    ObserverMetrics plus(ObserverMetrics other) {
+        return new ObserverMetrics(observerName, queueDepth + other.queueDepth,
+                Math.max(maxQueueDepth, other.maxQueueDepth), delivered + other.delivered,
+                dropped + other.dropped, coalesced + other.coalesced,
+                totalLatencyNanos + other.totalLatencyNanos, Math.max(maxLatencyNanos, other.maxLatencyNanos));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: depth %d (max %d), delivered %d, dropped %d, coalesced %d, latency avg %.2f ms / max %.2f ms",
+                observerName, queueDepth, maxQueueDepth, delivered, dropped, coalesced,
+                getAverageLatencyNanos() / 1e6, maxLatencyNanos / 1e6);
+    }
+}
@@ -0,0 +1,217 @@
+package domain.observer.publisher;
+
+import domain.models.OrderSnapshot;
+import domain.models.enums.OrderStatus;
+import domain.observer.subscribers.OrderStatusObserver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+// Observers attached once and shared by every order. In asynchronous mode each observer gets
+// one mailbox per lane and an order always goes to the same lane (picked from its ID), so one
+// order's notifications stay in order while different orders are handled in parallel.
+public class ObserverPipeline {
+    private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+
+    // -Dcoffeeshop.traceDispatch=true prints a banner around every dispatch. Off by default:
+    // building the banner allocates on the hot path.
+    private static final boolean TRACE_DISPATCH = Boolean.getBoolean("coffeeshop.traceDispatch");
+
+    // Everything attached, in attach order. Detaching only clears a flag, so it is safe in the
+    // middle of a dispatch and allocates nothing; the next attach prunes the dead entries.
+    private volatile Subscription[] subscriptions;
+
+    // byStatus[status.ordinal()] = subscriptions whose mask includes that status, rebuilt on attach
+    private volatile Subscription[][] byStatus;
+
+    // Asynchronous mode only
+    private final Executor dispatchExecutor;
+    private final BackpressurePolicy backpressurePolicy;
+    private final int queueCapacity;
+    private final int laneMask;
+
+    // Synchronous: observers run on the thread that changes the status
+    public ObserverPipeline() {
+        this(null, BackpressurePolicy.BLOCK, 0, 1);
+    }
+
+    // Asynchronous: lanes is rounded up to a power of two
+    public ObserverPipeline(Executor dispatchExecutor, BackpressurePolicy backpressurePolicy,
+                            int queueCapacity, int lanes) {
+        if (lanes < 1) {
+            throw new IllegalArgumentException("Need at least one lane");
+        }
+        this.subscriptions = NO_SUBSCRIPTIONS;
+        this.byStatus = buildIndex(NO_SUBSCRIPTIONS);
+        this.dispatchExecutor = dispatchExecutor;
+        this.backpressurePolicy = backpressurePolicy;
+        this.queueCapacity = queueCapacity;
+        this.laneMask = dispatchExecutor == null ? 0 : Integer.highestOneBit(lanes * 2 - 1) - 1;
+    }
+
+    // ============ SUBSCRIPTIONS ============
+
+    public void attach(OrderStatusObserver observer) {
+        attach(observer, observer.getStatusMask());
+    }
+
+    // statusMask: OR of OrderStatus.mask() values; overrides what the observer declares
+    public synchronized void attach(OrderStatusObserver observer, int statusMask) {
+        if (statusMask == 0 || (statusMask & ~OrderStatus.ALL_MASK) != 0) {
+            throw new IllegalArgumentException("Invalid status mask: " + Integer.toBinaryString(statusMask));
+        }
+        if (indexOf(observer) >= 0) {
+            return;
+        }
+        OrderStatusObserver[] targets = new OrderStatusObserver[laneMask + 1];
+        for (int lane = 0; lane < targets.length; lane++) {
+            targets[lane] = dispatchExecutor == null ? observer
+                    : new ObserverMailbox(observer, dispatchExecutor, backpressurePolicy, queueCapacity);
+        }
+
+        Subscription[] current = subscriptions;
+        Subscription[] updated = new Subscription[current.length + 1];
+        int live = 0;
+        for (Subscription subscription : current) {
+            if (subscription.active) {
+                updated[live++] = subscription;
+            }
+        }
+        updated[live++] = new Subscription(observer, targets, statusMask);
+        if (live < updated.length) {
+            updated = Arrays.copyOf(updated, live);
+        }
+
+        byStatus = buildIndex(updated);
+        subscriptions = updated;
+    }
+
+    public synchronized void detach(OrderStatusObserver observer) {
+        int index = indexOf(observer);
+        if (index < 0) {
+            return;
+        }
+        Subscription subscription = subscriptions[index];
+        subscription.active = false;
+        for (OrderStatusObserver target : subscription.targets) {
+            if (target instanceof ObserverMailbox) {
+                ((ObserverMailbox) target).close();
+            }
+        }
+    }
+
+    private int indexOf(OrderStatusObserver observer) {
+        Subscription[] current = subscriptions;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].active && current[i].observer == observer) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Subscription[][] buildIndex(Subscription[] all) {
+        Subscription[][] index = new Subscription[OrderStatus.COUNT][];
+        for (int status = 0; status < OrderStatus.COUNT; status++) {
+            int bit = 1 << status;
+            int count = 0;
+            for (Subscription subscription : all) {
+                if ((subscription.statusMask & bit) != 0) {
+                    count++;
+                }
+            }
+            index[status] = count == 0 ? NO_SUBSCRIPTIONS : new Subscription[count];
+            int next = 0;
+            for (Subscription subscription : all) {
+                if ((subscription.statusMask & bit) != 0) {
+                    index[status][next++] = subscription;
+                }
+            }
+        }
+        return index;
+    }
+
+    // ============ DISPATCH ============
+
+    public void dispatch(OrderStatus status, OrderSnapshot order) {
+        dispatch(status, order, null);
+    }
+
+    // tracker counts what is left in mailboxes for this order; synchronous observers have run on return
+    void dispatch(OrderStatus status, OrderSnapshot order, DeliveryTracker tracker) {
+        Subscription[] interested = byStatus[status.ordinal()];
+        int lane = laneOf(order.getOrderId());
+        if (TRACE_DISPATCH) {
+            traceStart(interested, status);
+        }
+
+        for (Subscription subscription : interested) {
+            // Re-checked per call: an earlier observer may have detached a later one
+            if (subscription.active) {
+                OrderStatusObserver target = subscription.targets[lane];
+                if (target instanceof ObserverMailbox) {
+                    ((ObserverMailbox) target).offer(status, order, tracker);
+                } else {
+                    target.update(status, order);
+                }
+            }
+        }
+
+        if (TRACE_DISPATCH) {
+            System.out.println("-".repeat(50));
+        }
+    }
+
+    private static void traceStart(Subscription[] interested, OrderStatus status) {
+        int active = 0;
+        for (Subscription subscription : interested) {
+            if (subscription.active) {
+                active++;
+            }
+        }
+        System.out.println("\n Notifying " + active + " observers about status: " + status);
+        System.out.println("-".repeat(50));
+    }
+
+    private int laneOf(String orderId) {
+        int h = orderId.hashCode();
+        return (h ^ (h >>> 16)) & laneMask;
+    }
+
+    public boolean isAsynchronous() {
+        return dispatchExecutor != null;
+    }
+
+    // One entry per attached observer in asynchronous mode, summed over its lanes
+    public List<ObserverMetrics> getObserverMetrics() {
+        List<ObserverMetrics> metrics = new ArrayList<>();
+        for (Subscription subscription : subscriptions) {
+            if (!subscription.active || !(subscription.targets[0] instanceof ObserverMailbox)) {
+                continue;
+            }
+            ObserverMetrics total = null;
+            for (OrderStatusObserver target : subscription.targets) {
+                ObserverMetrics lane = ((ObserverMailbox) target).metrics();
+                total = total == null ? lane : total.plus(lane);
+            }
+            metrics.add(total);
+        }
+        return metrics;
+    }
+
+    private static final class Subscription {
+        private final OrderStatusObserver observer;
+        // The observer itself, or one mailbox per lane in asynchronous mode
+        private final OrderStatusObserver[] targets;
+        private final int statusMask;
+        private volatile boolean active = true;
+
+        private Subscription(OrderStatusObserver observer, OrderStatusObserver[] targets, int statusMask) {
+            this.observer = observer;
+            this.targets = targets;
+            this.statusMask = statusMask;
+        }
+    }
+}
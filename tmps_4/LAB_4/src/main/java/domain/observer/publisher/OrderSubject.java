@@ -1,49 +1,150 @@
 package domain.observer.publisher;
 
-import domain.models.Order;
+import domain.events.OrderEventBus;
+import domain.events.OrderEventType;
+import domain.models.OrderSnapshot;
+import domain.models.enums.OrderStatus;
 import domain.observer.subscribers.OrderStatusObserver;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
+// Status and timing of one order; the observers themselves live in an ObserverPipeline
 public class OrderSubject {
-    private List<OrderStatusObserver> observers;
-    private String currentStatus;
+    private final ObserverPipeline pipeline;
 
+    // Shared pipelines serve every order, so their observers are managed on the pipeline
+    private final boolean sharedPipeline;
+
+    private volatile OrderStatus currentStatus;
+
+    // System.nanoTime() at which each status was entered, by ordinal; 0 = not reached
+    private final long[] enteredAtNanos;
+
+    // Optional: every status change is also published here, in order, under the subject's lock
+    private final OrderEventBus eventBus;
+
+    // This order's notifications still queued for asynchronous observers. Created on the first
+    // dispatch, so opening an order allocates nothing for the observer side.
+    private DeliveryTracker deliveries;
+
+    // Synchronous: observers run on the thread that changes the status
     public OrderSubject() {
-        this.observers = new ArrayList<>();
-        this.currentStatus = "CREATED";
+        this(new ObserverPipeline(), false, null);
+    }
+
+    // Asynchronous: each observer gets a bounded queue drained on dispatchExecutor
+    public OrderSubject(Executor dispatchExecutor, BackpressurePolicy backpressurePolicy, int queueCapacity) {
+        this(new ObserverPipeline(dispatchExecutor, backpressurePolicy, queueCapacity, 1), false, null);
+    }
+
+    // Notifies the long-lived pipeline's observers; attach / detach go through the pipeline
+    public OrderSubject(ObserverPipeline pipeline, OrderEventBus eventBus) {
+        this(pipeline, true, eventBus);
+    }
+
+    private OrderSubject(ObserverPipeline pipeline, boolean sharedPipeline, OrderEventBus eventBus) {
+        this.pipeline = pipeline;
+        this.sharedPipeline = sharedPipeline;
+        this.currentStatus = OrderStatus.CREATED;
+        this.enteredAtNanos = new long[OrderStatus.COUNT];
+        enteredAtNanos[OrderStatus.CREATED.ordinal()] = System.nanoTime();
+        this.eventBus = eventBus;
     }
 
     public void attach(OrderStatusObserver observer) {
-        if (!observers.contains(observer)) {
-            observers.add(observer);
-        }
+        ownPipeline().attach(observer);
+    }
+
+    public void attach(OrderStatusObserver observer, int statusMask) {
+        ownPipeline().attach(observer, statusMask);
     }
 
     public void detach(OrderStatusObserver observer) {
-        observers.remove(observer);
+        ownPipeline().detach(observer);
+    }
+
+    private ObserverPipeline ownPipeline() {
+        if (sharedPipeline) {
+            throw new IllegalStateException("Observers of a shared pipeline are attached on the pipeline");
+        }
+        return pipeline;
     }
 
-    public void notifyObservers(Order order) {
-        System.out.println("\n Notifying " + observers.size() + " observers about status: " + currentStatus);
-        System.out.println("-".repeat(50));
-        List<OrderStatusObserver> observersCopy = new ArrayList<>(observers);
+    public void notifyObservers(OrderSnapshot order) {
+        pipeline.dispatch(currentStatus, order, deliveries());
+    }
 
-        for (OrderStatusObserver observer : observersCopy) {
-            observer.update(currentStatus, order);
+    public void setStatus(OrderStatus newStatus, OrderSnapshot order) {
+        synchronized (this) {
+            if (!currentStatus.canTransitionTo(newStatus)) {
+                throw new IllegalStateException("Order " + order.getOrderId() + " cannot go from "
+                        + currentStatus + " to " + newStatus);
+            }
+            enteredAtNanos[newStatus.ordinal()] = System.nanoTime();
+            System.out.println("\n Order status changed: " + currentStatus + " → " + newStatus);
+            this.currentStatus = newStatus;
+            if (eventBus != null) {
+                eventBus.publish(OrderEventType.STATUS_CHANGED, order.getOrderId(), newStatus,
+                        order.getTotalCents(), order.getItemCount());
+            }
         }
+        pipeline.dispatch(newStatus, order, deliveries());
+    }
 
-        System.out.println("-".repeat(50));
+    // Synchronous pipelines settle everything before dispatch returns and need no tracker
+    private synchronized DeliveryTracker deliveries() {
+        if (deliveries == null && pipeline.isAsynchronous()) {
+            deliveries = new DeliveryTracker();
+        }
+        return deliveries;
     }
 
-    public void setStatus(String newStatus, Order order) {
-        System.out.println("\n Order status changed: " + currentStatus + " → " + newStatus);
-        this.currentStatus = newStatus;
-        notifyObservers(order);
+    private synchronized DeliveryTracker existingDeliveries() {
+        return deliveries;
     }
 
-    public String getCurrentStatus() {
+    public OrderStatus getCurrentStatus() {
         return currentStatus;
     }
-}
\ No newline at end of file
+
+    public synchronized long getEnteredAtNanos(OrderStatus status) {
+        return enteredAtNanos[status.ordinal()];
+    }
+
+    // Time from entering one status to entering another, or -1 if either was never reached
+    public synchronized long getNanosBetween(OrderStatus from, OrderStatus to) {
+        long start = enteredAtNanos[from.ordinal()];
+        long end = enteredAtNanos[to.ordinal()];
+        return start == 0 || end == 0 ? -1 : end - start;
+    }
+
+    public boolean isAsynchronous() {
+        return pipeline.isAsynchronous();
+    }
+
+    // Returns once every notification of this order has been handled; other orders sharing the
+    // same mailboxes are not waited for. Immediate in synchronous mode.
+    public void awaitDelivered() throws InterruptedException {
+        DeliveryTracker tracker = existingDeliveries();
+        if (tracker != null) {
+            tracker.awaitSettled();
+        }
+    }
+
+    // Runs callback once every notification sent so far has been handled - right away if none
+    // is pending, otherwise on the observer thread that handles the last one
+    public void whenDelivered(Runnable callback) {
+        DeliveryTracker tracker = existingDeliveries();
+        if (tracker != null) {
+            tracker.whenSettled(callback);
+        } else {
+            callback.run();
+        }
+    }
+
+    // One entry per attached observer in asynchronous mode; empty in synchronous mode
+    public List<ObserverMetrics> getObserverMetrics() {
+        return pipeline.getObserverMetrics();
+    }
+}
@@ -1,6 +1,7 @@
 package domain.observer.subscribers;
 
-import domain.models.Order;
+import domain.models.OrderSnapshot;
+import domain.models.enums.OrderStatus;
 
 public class CustomerNotificationObserver implements OrderStatusObserver {
 
@@ -8,42 +9,48 @@ public class CustomerNotificationObserver implements OrderStatusObserver {
     }
 
     @Override
-    public void update(String status, Order order) {
+    public int getStatusMask() {
+        return OrderStatus.maskOf(OrderStatus.CONFIRMED, OrderStatus.PREPARING,
+                OrderStatus.READY, OrderStatus.COMPLETED);
+    }
+
+    @Override
+    public void update(OrderStatus status, OrderSnapshot order) {
         switch (status) {
-            case "CONFIRMED":
+            case CONFIRMED:
                 notifyOrderConfirmed(order);
                 break;
-            case "PREPARING":
+            case PREPARING:
                 notifyOrderPreparing(order);
                 break;
-            case "READY":
+            case READY:
                 notifyOrderReady(order);
                 break;
-            case "COMPLETED":
+            case COMPLETED:
                 notifyOrderCompleted(order);
                 break;
         }
     }
 
-    private void notifyOrderConfirmed(Order order) {
+    private void notifyOrderConfirmed(OrderSnapshot order) {
         System.out.println("\n [Customer Notification]");
         System.out.println("✓ Order Confirmed!");
         System.out.println("Order #: " + order.getOrderId());
         System.out.println("Your order is being processed.");
     }
 
-    private void notifyOrderPreparing(Order order) {
+    private void notifyOrderPreparing(OrderSnapshot order) {
         System.out.println("\n [Customer Notification]");
         System.out.println("Your order #" + order.getOrderId() + " is being prepared.");
     }
 
-    private void notifyOrderReady(Order order) {
+    private void notifyOrderReady(OrderSnapshot order) {
         System.out.println("\n [Customer Notification]");
         System.out.println(" Your order #" + order.getOrderId() + " is ready for pickup!");
         System.out.println("Please come to the counter.");
     }
 
-    private void notifyOrderCompleted(Order order) {
+    private void notifyOrderCompleted(OrderSnapshot order) {
         System.out.println("\n [Customer Notification]");
         System.out.println("Thank you! Order #" + order.getOrderId() + " completed.");
         System.out.println("We hope you enjoyed your coffee! ");
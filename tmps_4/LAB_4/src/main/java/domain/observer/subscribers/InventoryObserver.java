@@ -1,62 +1,39 @@
 package domain.observer.subscribers;
 
 import domain.models.inventory.InventoryManager;
-import domain.models.Coffee;
-import domain.models.Order;
-import domain.models.food.Food;
-import domain.observer.publisher.OrderSubject;
+import domain.models.inventory.StockDemand;
+import domain.models.OrderSnapshot;
+import domain.models.enums.OrderStatus;
 
 public class InventoryObserver implements OrderStatusObserver {
     private InventoryManager inventoryManager;
-    private OrderSubject subject;
 
-    public InventoryObserver(OrderSubject subject) {
+    // Shared by every order; only ever sees CONFIRMED, so it has nothing to detach from
+    public InventoryObserver() {
         this.inventoryManager = InventoryManager.getInstance();
-        this.subject = subject;
     }
 
     @Override
-    public void update(String status, Order order) {
-        if (status.equals("CONFIRMED")) {
-            System.out.println("-".repeat(50));
-            updateInventory(order);
-            System.out.println("-".repeat(50));
+    public int getStatusMask() {
+        return OrderStatus.CONFIRMED.mask();
+    }
 
-            // Detach after updating inventory - no longer needed
-            subject.detach(this);
-            System.out.println(" InventoryObserver detached (job complete)");
-        }
+    @Override
+    public void update(OrderStatus status, OrderSnapshot order) {
+        System.out.println("-".repeat(50));
+        updateInventory(order);
+        System.out.println("-".repeat(50));
     }
 
-    private void updateInventory(Order order) {
+    private void updateInventory(OrderSnapshot order) {
         System.out.println("\n[Inventory Update for Order " + order.getOrderId() + "]");
 
-        // Reduce stock for each drink
-        for (Coffee drink : order.getDrinks()) {
-            inventoryManager.reduceStock("coffee_beans", 1);
-            inventoryManager.reduceStock("water", 1);
-
-            String description = drink.getDescription().toLowerCase();
-            if (description.contains("latte") || description.contains("cappuccino")) {
-                inventoryManager.reduceStock("milk", 1);
-            }
-
-        }
-
-        // Reduce stock for each food item
-        for (Food food : order.getFoods()) {
-            String description = food.getDescription().toLowerCase();
-            if (description.contains("croissant")) {
-                inventoryManager.reduceStock("croissant", 1);
-            } else if (description.contains("muffin")) {
-                inventoryManager.reduceStock("muffin", 1);
-            }
-
-            if (description.contains("caramel")) {
-                inventoryManager.reduceStock("caramel_sauce", 1);
-            }
-            if (description.contains("pistachio")) {
-                inventoryManager.reduceStock("pistachio_paste", 1);
+        // Stock was held for this order before payment; committing makes the sale final
+        if (!inventoryManager.commitReservation(order.getOrderId())) {
+            if (!inventoryManager.tryReserve(order.getOrderId(), StockDemand.of(order))
+                    || !inventoryManager.commitReservation(order.getOrderId())) {
+                System.out.println(" Not enough stock to fulfil order " + order.getOrderId() + "!");
+                return;
             }
         }
         System.out.println(" Inventory updated successfully!");
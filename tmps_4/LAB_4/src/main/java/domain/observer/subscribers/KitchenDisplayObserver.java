@@ -2,7 +2,8 @@ package domain.observer.subscribers;
 
 
 import domain.models.Coffee;
-import domain.models.Order;
+import domain.models.OrderSnapshot;
+import domain.models.enums.OrderStatus;
 import domain.models.food.Food;
 
 public class KitchenDisplayObserver implements OrderStatusObserver {
@@ -12,25 +13,31 @@ public class KitchenDisplayObserver implements OrderStatusObserver {
         this.kitchenName = kitchenName;
     }
 
+    // Nothing reaches the kitchen before payment
     @Override
-    public void update(String status, Order order) {
+    public int getStatusMask() {
+        return OrderStatus.ALL_MASK & ~OrderStatus.CREATED.mask();
+    }
+
+    @Override
+    public void update(OrderStatus status, OrderSnapshot order) {
         System.out.println("-".repeat(50));
         System.out.println("\n[Kitchen Display - " + kitchenName + " Kitchen]");
 
         switch (status) {
-            case "CONFIRMED":
+            case CONFIRMED:
                 this.displayNewOrder(order);
                 break;
 
-            case "PREPARING":
+            case PREPARING:
                 System.out.println(" Preparing order #" + order.getOrderId());
                 break;
 
-            case "READY":
+            case READY:
                 System.out.println(" Order #" + order.getOrderId() + " is READY for pickup!");
                 break;
 
-            case "COMPLETED":
+            case COMPLETED:
                 System.out.println(" Order #" + order.getOrderId() + " completed and picked up.");
                 break;
 
@@ -40,18 +47,18 @@ public class KitchenDisplayObserver implements OrderStatusObserver {
         }
     }
 
-    private void displayNewOrder(Order order) {
+    private void displayNewOrder(OrderSnapshot order) {
         System.out.println("NEW ORDER: " + order.getOrderId());
         System.out.println("Items to prepare:");
 
-        if (!order.getDrinks().isEmpty()) {
+        if (order.getDrinkCount() > 0) {
             System.out.println("  Drinks:");
             for (Coffee drink : order.getDrinks()) {
                 System.out.println("    - " + drink.getDescription());
             }
         }
 
-        if (!order.getFoods().isEmpty()) {
+        if (order.getFoodCount() > 0) {
             System.out.println("  Food:");
             for (Food food : order.getFoods()) {
                 System.out.println("    - " + food.getDescription());
@@ -59,9 +66,4 @@ public class KitchenDisplayObserver implements OrderStatusObserver {
         }
 
     }
-
-    private void removeFromDisplay(Order order) {
-        System.out.println("\n [" + kitchenName + " Kitchen Display]");
-        System.out.println("Order " + order.getOrderId() + " completed - Removed from queue");
-    }
 }
\ No newline at end of file
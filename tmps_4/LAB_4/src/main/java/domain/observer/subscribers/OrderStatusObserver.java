@@ -1,7 +1,13 @@
 package domain.observer.subscribers;
 
-import domain.models.Order;
+import domain.models.OrderSnapshot;
+import domain.models.enums.OrderStatus;
 
 public interface OrderStatusObserver {
-    void update(String status, Order order);
-}
\ No newline at end of file
+    void update(OrderStatus status, OrderSnapshot order);
+
+    // Statuses this observer wants; OrderSubject never calls update() for the others
+    default int getStatusMask() {
+        return OrderStatus.ALL_MASK;
+    }
+}
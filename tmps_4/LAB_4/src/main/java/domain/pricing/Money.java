@@ -0,0 +1,51 @@
+package domain.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// Amounts are plain long cents so arithmetic never allocates or boxes.
+// Rates are int basis points (1% = 100 bp). Rounding is half-up to the cent.
+public final class Money {
+    public static final long ZERO = 0L;
+    private static final int BASIS_POINTS = 10_000;
+
+    private Money() {
+    }
+
+    public static long ofDollars(double dollars) {
+        return Math.round(dollars * 100.0);
+    }
+
+    public static double toDollars(long cents) {
+        return cents / 100.0;
+    }
+
+    public static int toBasisPoints(double rate) {
+        return (int) Math.round(rate * BASIS_POINTS);
+    }
+
+    // cents * basisPoints / 10000, rounded half-up
+    public static long percentage(long cents, int basisPoints) {
+        long scaled = cents * basisPoints;
+        long half = scaled >= 0 ? BASIS_POINTS / 2 : -BASIS_POINTS / 2;
+        return (scaled + half) / BASIS_POINTS;
+    }
+
+    public static long discount(long cents, int discountBasisPoints) {
+        return cents - percentage(cents, discountBasisPoints);
+    }
+
+    public static String format(long cents) {
+        long abs = Math.abs(cents);
+        long fraction = abs % 100;
+        return (cents < 0 ? "-" : "") + (abs / 100) + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+
+    // For user input only - "12", "12.5", "12.345" (rounded half-up)
+    public static long parse(String text) {
+        return new BigDecimal(text.trim())
+                .setScale(2, RoundingMode.HALF_UP)
+                .movePointRight(2)
+                .longValueExact();
+    }
+}
@@ -0,0 +1,129 @@
+package domain.pricing;
+
+import domain.factory.CoffeeShopConfig;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Random;
+
+// Prices the same random orders twice: the old double path (dollar sums, tax through a
+// {tax, total} array, Math.round(x * 100) / 100 for change) and the long-cents path the shop
+// uses now. Reports time and bytes per order, orders where the two paths charge a different
+// cent (the cents path rounds the discount and the tax each to the cent, the double path
+// only rounds for display), and the day's revenue three ways: the double running total, the
+// sum of the double totals as printed on receipts, and the cents path.
+// Usage: MoneyBench [orders] [rounds]
+public class MoneyBench {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean COUNTS_ALLOCATION = THREADS instanceof com.sun.management.ThreadMXBean;
+
+    // Menu-like line prices in dollars: drinks, sizes, shots and extras
+    private static final double[] LINE_PRICES = {2.50, 3.00, 3.50, 3.75, 4.25, 0.50, 0.75, 0.60, 1.10, 2.95};
+    private static final int MAX_LINES = 6;
+
+    public static void main(String[] args) {
+        int orders = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        CoffeeShopConfig config = CoffeeShopConfig.getInstance();
+        double taxRate = config.getTaxRate();
+        double loyaltyDiscount = config.getLoyaltyDiscount();
+
+        // Each order: line count, then line indexes; a member flag; the cash handed over
+        Random random = new Random(42);
+        int[][] lines = new int[orders][];
+        boolean[] members = new boolean[orders];
+        int[] tenderedDollars = new int[orders];
+        for (int i = 0; i < orders; i++) {
+            lines[i] = new int[1 + random.nextInt(MAX_LINES)];
+            for (int j = 0; j < lines[i].length; j++) {
+                lines[i][j] = random.nextInt(LINE_PRICES.length);
+            }
+            members[i] = random.nextInt(4) == 0;
+            tenderedDollars[i] = 20 + random.nextInt(30);
+        }
+        long[] lineCents = new long[LINE_PRICES.length];
+        for (int i = 0; i < LINE_PRICES.length; i++) {
+            lineCents[i] = Money.ofDollars(LINE_PRICES[i]);
+        }
+
+        // The double path's totals, kept to compare with the cents path
+        double[] doubleTotals = new double[orders];
+        for (int round = 0; round <= rounds; round++) {
+            // Double path
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            double doubleRevenue = 0;
+            double doubleChange = 0;
+            for (int i = 0; i < orders; i++) {
+                double price = 0;
+                for (int line : lines[i]) {
+                    price += LINE_PRICES[line];
+                }
+                if (members[i]) {
+                    price = price * (1 - loyaltyDiscount);
+                }
+                double[] taxAndTotal = calculateFinalPrice(price, taxRate);
+                doubleTotals[i] = taxAndTotal[1];
+                doubleRevenue += taxAndTotal[1];
+                doubleChange += Math.round((tenderedDollars[i] - taxAndTotal[1]) * 100) / 100.0;
+            }
+            long doubleNanos = System.nanoTime() - start;
+            long doubleBytes = allocatedBytes() - bytes;
+
+            // Cents path
+            bytes = allocatedBytes();
+            start = System.nanoTime();
+            long centsRevenue = 0;
+            long centsChange = 0;
+            int offByACent = 0;
+            long receiptCents = 0;
+            for (int i = 0; i < orders; i++) {
+                long price = 0;
+                for (int line : lines[i]) {
+                    price += lineCents[line];
+                }
+                if (members[i]) {
+                    price = config.applyLoyaltyDiscount(price);
+                }
+                long total = config.calculateFinalPrice(price);
+                centsRevenue += total;
+                centsChange += tenderedDollars[i] * 100L - total;
+                long receipt = Math.round(doubleTotals[i] * 100);
+                receiptCents += receipt;
+                if (receipt != total) {
+                    offByACent++;
+                }
+            }
+            long centsNanos = System.nanoTime() - start;
+            long centsBytes = allocatedBytes() - bytes;
+
+            // Round 0 is the warm-up and is not printed
+            if (round > 0) {
+                System.out.printf("double: %5.1f ns/order, %s bytes/order%n", (double) doubleNanos / orders,
+                        perOrder(doubleBytes, orders));
+                System.out.printf("cents:  %5.1f ns/order, %s bytes/order%n", (double) centsNanos / orders,
+                        perOrder(centsBytes, orders));
+                System.out.printf("Orders charged a different cent: %,d of %,d%n", offByACent, orders);
+                System.out.printf("Revenue: double running total $%.6f, double receipts $%s, cents $%s%n",
+                        doubleRevenue, Money.format(receiptCents), Money.format(centsRevenue));
+                System.out.printf("Change given: double $%.2f, cents $%s%n%n", doubleChange, Money.format(centsChange));
+            }
+        }
+    }
+
+    // What CoffeeShopConfig did before amounts became cents
+    private static double[] calculateFinalPrice(double price, double taxRate) {
+        double tax = price * taxRate;
+        double finalPrice = price + tax;
+        return new double[]{tax, finalPrice};
+    }
+
+    private static String perOrder(long bytes, int orders) {
+        return COUNTS_ALLOCATION ? String.valueOf(bytes / orders) : "n/a";
+    }
+
+    private static long allocatedBytes() {
+        return COUNTS_ALLOCATION ? ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes() : 0;
+    }
+}
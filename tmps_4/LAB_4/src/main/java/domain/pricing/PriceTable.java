@@ -0,0 +1,89 @@
+package domain.pricing;
+
+import domain.factory.CoffeeTypeSpec;
+import domain.models.enums.Extra;
+import domain.models.enums.MilkType;
+import domain.models.enums.Size;
+
+import java.util.List;
+
+// Menu compiled into flat int arrays of cents. Never mutated after construction;
+// a price change builds a new table instead.
+final class PriceTable {
+    // Slot 0 of the size and milk dimensions means "not chosen"
+    static final int SIZE_SLOTS = Size.values().length + 1;
+    static final int MILK_SLOTS = MilkType.values().length + 1;
+
+    private final int typeCount;
+    private final int shotSlots;
+    private final int[] drinkCents;
+    private final int[] extraCents;
+    private final int[] extrasMaskCents;
+
+    PriceTable(List<CoffeeTypeSpec> specs, double shotPrice) {
+        int maxShots = 0;
+        for (CoffeeTypeSpec spec : specs) {
+            maxShots = Math.max(maxShots, spec.getMaxShots());
+        }
+        this.typeCount = specs.size();
+        this.shotSlots = maxShots + 1;
+
+        Size[] sizes = Size.values();
+        MilkType[] milks = MilkType.values();
+        this.drinkCents = new int[specs.size() * SIZE_SLOTS * MILK_SLOTS * shotSlots];
+
+        for (CoffeeTypeSpec spec : specs) {
+            for (int size = 0; size < SIZE_SLOTS; size++) {
+                double sizePrice = size == 0 ? 0.0 : sizes[size - 1].getPriceModifier();
+                for (int milk = 0; milk < MILK_SLOTS; milk++) {
+                    double milkPrice = milk == 0 ? 0.0 : milks[milk - 1].getExtraCharge();
+                    for (int shots = 0; shots < shotSlots; shots++) {
+                        double price = spec.getBasePrice() + sizePrice + milkPrice
+                                + (shots - spec.getDefaultShots()) * shotPrice;
+                        drinkCents[index(spec.getTypeIndex(), size, milk, shots)] = toCents(price);
+                    }
+                }
+            }
+        }
+
+        Extra[] extras = Extra.values();
+        this.extraCents = new int[extras.length];
+        for (Extra extra : extras) {
+            extraCents[extra.ordinal()] = toCents(extra.getPrice());
+        }
+
+        this.extrasMaskCents = new int[1 << extras.length];
+        for (int mask = 1; mask < extrasMaskCents.length; mask++) {
+            int lowest = Integer.numberOfTrailingZeros(mask);
+            extrasMaskCents[mask] = extrasMaskCents[mask & (mask - 1)] + extraCents[lowest];
+        }
+    }
+
+    private int index(int typeIndex, int sizeSlot, int milkSlot, int shots) {
+        return ((typeIndex * SIZE_SLOTS + sizeSlot) * MILK_SLOTS + milkSlot) * shotSlots + shots;
+    }
+
+    boolean coversType(int typeIndex) {
+        return typeIndex >= 0 && typeIndex < typeCount;
+    }
+
+    boolean covers(int shots) {
+        return shots >= 0 && shots < shotSlots;
+    }
+
+    int drinkCents(int typeIndex, int sizeSlot, int milkSlot, int shots) {
+        return drinkCents[index(typeIndex, sizeSlot, milkSlot, shots)];
+    }
+
+    int extraCents(Extra extra) {
+        return extraCents[extra.ordinal()];
+    }
+
+    int extrasMaskCents(int extrasMask) {
+        return extrasMaskCents[extrasMask];
+    }
+
+    static int toCents(double amount) {
+        return (int) Math.round(amount * 100.0);
+    }
+}
@@ -0,0 +1,122 @@
+package domain.pricing;
+
+import domain.factory.CoffeeFactoryRegistry;
+import domain.factory.CoffeeShopConfig;
+import domain.factory.CoffeeTypeSpec;
+import domain.models.Coffee;
+import domain.models.enums.Extra;
+import domain.models.enums.MilkType;
+import domain.models.enums.Size;
+
+import java.util.List;
+
+// Quotes drinks from a precompiled PriceTable. The table is swapped as a whole on
+// rebuild(), so readers always see one consistent menu without locking.
+public class PricingEngine {
+    // Packed drink code layout, low to high: extras mask (8 bits), shots (4), milk slot (4),
+    // size slot (2), type index (rest)
+    private static final int SHOTS_SHIFT = 8;
+    private static final int MILK_SHIFT = 12;
+    private static final int SIZE_SHIFT = 16;
+    private static final int TYPE_SHIFT = 18;
+    private static final int MAX_ENCODED_SHOTS = 0xF;
+
+    private static volatile PricingEngine instance;
+
+    private final CoffeeFactoryRegistry coffeeFactories;
+    private volatile PriceTable table;
+
+    private PricingEngine() {
+        this.coffeeFactories = CoffeeFactoryRegistry.getInstance();
+        rebuild();
+    }
+
+    public static PricingEngine getInstance() {
+        if (instance == null) {
+            synchronized (PricingEngine.class) {
+                if (instance == null) instance = new PricingEngine();
+            }
+        }
+        return instance;
+    }
+
+    // Call after any menu price changes
+    public synchronized void rebuild() {
+        this.table = new PriceTable(coffeeFactories.getSpecs(), CoffeeShopConfig.getInstance().getShotPrice());
+    }
+
+    // ============ SINGLE DRINK ============
+
+    public int quoteCents(Coffee coffee) {
+        PriceTable current = table;
+        CoffeeTypeSpec spec = coffeeFactories.getSpec(coffee);
+        int shots = coffee.getShots();
+        if (!current.covers(shots)) {
+            throw new IllegalArgumentException(coffee.getName() + " cannot have " + shots + " shots");
+        }
+
+        int cents = current.drinkCents(spec.getTypeIndex(),
+                sizeSlot(coffee.getSize()), milkSlot(coffee.getMilkType()), shots);
+
+        // Extras may repeat on a built drink, so sum them one by one
+        List<Extra> extras = coffee.getExtras();
+        for (int i = 0; i < extras.size(); i++) {
+            cents += current.extraCents(extras.get(i));
+        }
+        return cents;
+    }
+
+    // ============ BATCH QUOTES ============
+
+    public static int encode(CoffeeTypeSpec spec, Size size, MilkType milkType, int shots, Extra... extras) {
+        // Anything wider would spill into the milk bits
+        if (shots < 0 || shots > MAX_ENCODED_SHOTS) {
+            throw new IllegalArgumentException(spec.getName() + " cannot have " + shots + " shots");
+        }
+        int extrasMask = 0;
+        for (Extra extra : extras) {
+            extrasMask |= 1 << extra.ordinal();
+        }
+        return (spec.getTypeIndex() << TYPE_SHIFT)
+                | (sizeSlot(size) << SIZE_SHIFT)
+                | (milkSlot(milkType) << MILK_SHIFT)
+                | (shots << SHOTS_SHIFT)
+                | extrasMask;
+    }
+
+    public int quoteCents(int drinkCode) {
+        return quote(table, drinkCode);
+    }
+
+    // Prices drinkCodes[0..count) into centsOut; one table read for the whole batch, no allocation
+    public long quoteBatch(int[] drinkCodes, int[] centsOut, int count) {
+        PriceTable current = table;
+        long totalCents = 0;
+        for (int i = 0; i < count; i++) {
+            int cents = quote(current, drinkCodes[i]);
+            centsOut[i] = cents;
+            totalCents += cents;
+        }
+        return totalCents;
+    }
+
+    private static int quote(PriceTable current, int drinkCode) {
+        int typeIndex = drinkCode >>> TYPE_SHIFT;
+        int sizeSlot = (drinkCode >>> SIZE_SHIFT) & 0x3;
+        int milkSlot = (drinkCode >>> MILK_SHIFT) & 0xF;
+        int shots = (drinkCode >>> SHOTS_SHIFT) & 0xF;
+        int extrasMask = drinkCode & 0xFF;
+        if (!current.coversType(typeIndex) || !current.covers(shots)) {
+            throw new IllegalArgumentException("Drink code " + drinkCode + " is not on the menu");
+        }
+        return current.drinkCents(typeIndex, sizeSlot, milkSlot, shots) + current.extrasMaskCents(extrasMask);
+    }
+
+    private static int sizeSlot(Size size) {
+        return size == null ? 0 : size.ordinal() + 1;
+    }
+
+    private static int milkSlot(MilkType milkType) {
+        return milkType == null ? 0 : milkType.ordinal() + 1;
+    }
+}
@@ -0,0 +1,25 @@
+package domain.simulation;
+
+// Length of one queue over virtual time: current, maximum and time-weighted average
+final class QueueGauge {
+    private int length;
+    private int maxLength;
+    private long lastChangeMillis;
+    private double lengthMillis;
+
+    void change(long nowMillis, int delta) {
+        lengthMillis += (double) length * (nowMillis - lastChangeMillis);
+        lastChangeMillis = nowMillis;
+        length += delta;
+        maxLength = Math.max(maxLength, length);
+    }
+
+    int getMaxLength() {
+        return maxLength;
+    }
+
+    double getAverageLength(long endMillis) {
+        double total = lengthMillis + (double) length * (endMillis - lastChangeMillis);
+        return endMillis <= 0 ? 0 : total / endMillis;
+    }
+}
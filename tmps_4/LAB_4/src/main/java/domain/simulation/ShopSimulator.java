@@ -0,0 +1,389 @@
+package domain.simulation;
+
+import domain.builder.CoffeeBuilder;
+import domain.calendar.BusinessCalendar;
+import domain.calendar.ManualClock;
+import domain.chainOfResponsability.EmptyOrderHandler;
+import domain.chainOfResponsability.MinimumOrderHandler;
+import domain.chainOfResponsability.StockAvailabilityHandler;
+import domain.chainOfResponsability.ValidationChain;
+import domain.chainOfResponsability.WorkingHoursHandler;
+import domain.factory.CoffeeFactoryRegistry;
+import domain.kitchen.PrepTimes;
+import domain.kitchen.Station;
+import domain.models.Coffee;
+import domain.models.Order;
+import domain.models.OrderSnapshot;
+import domain.models.decorator.CaramelSauceDecorator;
+import domain.models.decorator.PistachioPasteDecorator;
+import domain.models.enums.MilkType;
+import domain.models.enums.Size;
+import domain.models.food.Croissant;
+import domain.models.food.Food;
+import domain.models.food.Muffin;
+import domain.models.food.bridge.HouseMadeSource;
+import domain.models.food.bridge.VendorSource;
+import domain.models.inventory.Ingredient;
+import domain.models.inventory.InventoryManager;
+import domain.models.inventory.StockDemand;
+import domain.simulation.SimulationConfig.PaymentMethod;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+// Discrete-event model of a shop day on a virtual clock: customers queue at the registers,
+// order and pay, then their drinks and food wait for a free barista and a free station.
+// Orders are built, priced, validated and taken out of stock with the real domain code,
+// against a standalone inventory so the shop's own stock is untouched.
+public class ShopSimulator {
+    private static final long HOUR_MS = 3_600_000;
+
+    private final SimulationConfig config;
+    private final Random random;
+    private final CoffeeFactoryRegistry coffeeFactories;
+    private final List<String> coffeeTypes;
+
+    // Per-run state
+    private final PriorityQueue<Event> events = new PriorityQueue<>();
+    private long eventSeq;
+    private long now;
+    private InventoryManager inventory;
+    private ValidationChain validationChain;
+
+    // Set when the config has a calendar: shop time = openingMillis + now
+    private ManualClock clock;
+    private BusinessCalendar calendar;
+    private long openingMillis;
+    private SimulationReport report;
+
+    private final ArrayDeque<Customer> registerQueue = new ArrayDeque<>();
+    private int freeRegisters;
+    private final List<Work> kitchenQueue = new ArrayList<>();
+    private int freeBaristas;
+    private final int[] freeUnits = new int[Station.values().length];
+    private long baristaBusyMillis;
+    private final long[] stationBusyMillis = new long[Station.values().length];
+
+    public ShopSimulator(SimulationConfig config) {
+        this.config = config;
+        this.random = new Random(config.getSeed());
+        this.coffeeFactories = CoffeeFactoryRegistry.getInstance();
+        this.coffeeTypes = coffeeFactories.getTypeNames();
+    }
+
+    // Poisson arrivals following the hourly profile in the config
+    public SimulationReport run() {
+        int[] profile = config.getArrivalsPerHour();
+        List<Long> arrivals = new ArrayList<>();
+        long closeMillis = profile.length * HOUR_MS;
+        long t = 0;
+        while (true) {
+            int perHour = profile[(int) Math.min(profile.length - 1, t / HOUR_MS)];
+            if (perHour <= 0) {
+                t = (t / HOUR_MS + 1) * HOUR_MS;
+            } else {
+                t += (long) (-Math.log(1 - random.nextDouble()) * HOUR_MS / perHour);
+            }
+            if (t >= closeMillis) {
+                break;
+            }
+            arrivals.add(t);
+        }
+
+        long[] arrivalMillis = new long[arrivals.size()];
+        for (int i = 0; i < arrivalMillis.length; i++) {
+            arrivalMillis[i] = arrivals.get(i);
+        }
+        return replay(arrivalMillis);
+    }
+
+    // Arrival times in milliseconds after opening, e.g. from a recorded day
+    public SimulationReport replay(long[] arrivalMillis) {
+        reset();
+        long wallStart = System.nanoTime();
+
+        try {
+            for (long arrival : arrivalMillis) {
+                schedule(arrival, EventType.ARRIVAL, new Customer(arrival), null);
+            }
+            while (!events.isEmpty()) {
+                Event event = events.poll();
+                now = event.timeMillis;
+                if (clock != null) {
+                    clock.setMillis(openingMillis + now);
+                }
+                handle(event);
+            }
+        } finally {
+            inventory.close();
+        }
+
+        report.simulatedMillis = now;
+        report.wallNanos = System.nanoTime() - wallStart;
+        report.baristaUtilization = now == 0 ? 0 : (double) baristaBusyMillis / ((double) now * config.getBaristas());
+        for (Station station : Station.values()) {
+            int units = config.getStationUnits(station);
+            if (units > 0 && now > 0) {
+                report.stationUtilization[station.ordinal()] = (double) stationBusyMillis[station.ordinal()] / ((double) now * units);
+            }
+        }
+        return report;
+    }
+
+    private void reset() {
+        events.clear();
+        eventSeq = 0;
+        now = 0;
+        report = new SimulationReport();
+        report.registerQueue = new QueueGauge();
+        report.kitchenQueue = new QueueGauge();
+
+        inventory = InventoryManager.createStandalone();
+        for (Ingredient ingredient : Ingredient.values()) {
+            int extra = config.getOpeningRestock(ingredient);
+            if (extra > 0) {
+                inventory.restock(ingredient, extra);
+            }
+        }
+        // Same checks as the live chain; opening hours run on the simulated clock, if at all
+        if (config.getCalendar() != null) {
+            BusinessCalendar configured = config.getCalendar();
+            openingMillis = config.getOpeningAt().atZone(configured.getZone()).toInstant().toEpochMilli();
+            clock = new ManualClock(configured.getZone(), openingMillis);
+            calendar = configured.withClock(clock);
+            validationChain = new ValidationChain(false, new EmptyOrderHandler(), new WorkingHoursHandler(calendar),
+                    new StockAvailabilityHandler(inventory), new MinimumOrderHandler());
+        } else {
+            clock = null;
+            calendar = null;
+            validationChain = new ValidationChain(false, new EmptyOrderHandler(),
+                    new StockAvailabilityHandler(inventory), new MinimumOrderHandler());
+        }
+
+        registerQueue.clear();
+        kitchenQueue.clear();
+        freeRegisters = config.getRegisters();
+        freeBaristas = config.getBaristas();
+        for (Station station : Station.values()) {
+            int units = config.getStationUnits(station);
+            freeUnits[station.ordinal()] = units > 0 ? units : Integer.MAX_VALUE;
+        }
+        baristaBusyMillis = 0;
+        Arrays.fill(stationBusyMillis, 0);
+    }
+
+    // ============ EVENTS ============
+
+    private void schedule(long timeMillis, EventType type, Customer customer, Work work) {
+        events.add(new Event(timeMillis, eventSeq++, type, customer, work));
+    }
+
+    private void handle(Event event) {
+        switch (event.type) {
+            case ARRIVAL:
+                report.customersArrived++;
+                registerQueue.addLast(event.customer);
+                report.registerQueue.change(now, 1);
+                startRegisters();
+                break;
+            case PAID:
+                freeRegisters++;
+                placeOrder(event.customer);
+                startRegisters();
+                startWork();
+                break;
+            case WORK_DONE:
+                finishWork(event.work);
+                startWork();
+                break;
+        }
+    }
+
+    private void startRegisters() {
+        while (freeRegisters > 0 && !registerQueue.isEmpty()) {
+            Customer customer = registerQueue.pollFirst();
+            report.registerQueue.change(now, -1);
+            freeRegisters--;
+            report.addRegisterWait(now - customer.arrivalMillis);
+
+            customer.order = composeOrder(customer);
+            PaymentMethod payment = choosePayment();
+            schedule(now + config.getOrderTakingMillis() + config.getPaymentMillis(payment),
+                    EventType.PAID, customer, null);
+        }
+    }
+
+    private void placeOrder(Customer customer) {
+        OrderSnapshot order = customer.order.snapshot();
+        int[] demand = StockDemand.of(order);
+        // The quiet variants throughout: a day is thousands of orders
+        if (!validationChain.validateQuietly(order)) {
+            Ingredient shortage = inventory.findShortage(demand);
+            if (shortage != null) {
+                report.stockOuts[shortage.ordinal()]++;
+            } else if (calendar != null && !calendar.isOpen()) {
+                report.ordersWhileClosed++;
+            } else {
+                report.ordersRejected++;
+            }
+            return;
+        }
+        if (!inventory.tryReserve(order.getOrderId(), demand) || !inventory.commitReservation(order.getOrderId())) {
+            report.ordersRejected++;
+            return;
+        }
+
+        report.ordersServed++;
+        report.drinksServed += order.getDrinkCount();
+        report.revenueCents += customer.order.getTotalWithTaxCents();
+
+        for (int i = 0; i < order.getDrinkCount(); i++) {
+            Coffee drink = order.getDrink(i);
+            queueWork(new Work(customer, Station.ESPRESSO_GROUP, PrepTimes.espressoPullMillis(drink)));
+            if (PrepTimes.needsSteaming(drink)) {
+                queueWork(new Work(customer, Station.STEAM_WAND, PrepTimes.steamMillis(drink)));
+            }
+        }
+        for (int i = 0; i < order.getFoodCount(); i++) {
+            Food food = order.getFood(i);
+            queueWork(new Work(customer, PrepTimes.foodStation(food), PrepTimes.foodMillis(food)));
+        }
+    }
+
+    private void queueWork(Work work) {
+        work.customer.remainingWork++;
+        kitchenQueue.add(work);
+        report.kitchenQueue.change(now, 1);
+    }
+
+    // Oldest item first, skipping items whose station is taken
+    private void startWork() {
+        Iterator<Work> iterator = kitchenQueue.iterator();
+        while (freeBaristas > 0 && iterator.hasNext()) {
+            Work work = iterator.next();
+            int station = work.station.ordinal();
+            if (freeUnits[station] == 0) {
+                continue;
+            }
+            iterator.remove();
+            report.kitchenQueue.change(now, -1);
+            freeBaristas--;
+            freeUnits[station]--;
+            baristaBusyMillis += work.prepMillis;
+            stationBusyMillis[station] += work.prepMillis;
+            schedule(now + work.prepMillis, EventType.WORK_DONE, work.customer, work);
+        }
+    }
+
+    private void finishWork(Work work) {
+        freeBaristas++;
+        freeUnits[work.station.ordinal()]++;
+        if (--work.customer.remainingWork == 0) {
+            report.addOrderReady(now - work.customer.arrivalMillis);
+        }
+    }
+
+    // ============ CUSTOMERS ============
+
+    private Order composeOrder(Customer customer) {
+        Order order = new Order("SIM-" + customer.arrivalMillis + "-" + eventSeq);
+        int drinks = random.nextInt(100) < 70 ? 1 : 2;
+        for (int i = 0; i < drinks; i++) {
+            order.addDrink(composeDrink());
+        }
+        if (random.nextInt(100) < 35) {
+            order.addFood(composeFood());
+        }
+        return order;
+    }
+
+    private Coffee composeDrink() {
+        String type = coffeeTypes.get(random.nextInt(coffeeTypes.size()));
+        Coffee coffee = coffeeFactories.getFactory(type).createCoffee();
+        CoffeeBuilder builder = new CoffeeBuilder(coffee).quietly();
+        builder.withSize(Size.values()[random.nextInt(Size.values().length)]);
+        if (coffee.requiresMilk() || (coffee.allowsMilk() && random.nextInt(100) < 30)) {
+            builder.withMilkType(random.nextInt(100) < 70 ? MilkType.WHOLE : MilkType.OAT);
+        }
+        return builder.build();
+    }
+
+    private Food composeFood() {
+        boolean houseMade = random.nextBoolean();
+        Food food = random.nextBoolean()
+                ? new Croissant(houseMade ? new HouseMadeSource() : new VendorSource())
+                : new Muffin(houseMade ? new HouseMadeSource() : new VendorSource());
+        if (random.nextInt(100) < 20) {
+            food = new CaramelSauceDecorator(food);
+        }
+        if (random.nextInt(100) < 10) {
+            food = new PistachioPasteDecorator(food);
+        }
+        return food;
+    }
+
+    private PaymentMethod choosePayment() {
+        int roll = random.nextInt(100);
+        for (PaymentMethod method : PaymentMethod.values()) {
+            roll -= config.getPaymentSharePercent(method);
+            if (roll < 0) {
+                return method;
+            }
+        }
+        return PaymentMethod.CARD;
+    }
+
+    // ============ MODEL ============
+
+    private enum EventType { ARRIVAL, PAID, WORK_DONE }
+
+    private static final class Event implements Comparable<Event> {
+        private final long timeMillis;
+        private final long seq;
+        private final EventType type;
+        private final Customer customer;
+        private final Work work;
+
+        private Event(long timeMillis, long seq, EventType type, Customer customer, Work work) {
+            this.timeMillis = timeMillis;
+            this.seq = seq;
+            this.type = type;
+            this.customer = customer;
+            this.work = work;
+        }
+
+        // Same-time events run in the order they were scheduled
+        @Override
+        public int compareTo(Event other) {
+            int byTime = Long.compare(timeMillis, other.timeMillis);
+            return byTime != 0 ? byTime : Long.compare(seq, other.seq);
+        }
+    }
+
+    private static final class Customer {
+        private final long arrivalMillis;
+        private Order order;
+        private int remainingWork;
+
+        private Customer(long arrivalMillis) {
+            this.arrivalMillis = arrivalMillis;
+        }
+    }
+
+    private static final class Work {
+        private final Customer customer;
+        private final Station station;
+        private final long prepMillis;
+
+        private Work(Customer customer, Station station, long prepMillis) {
+            this.customer = customer;
+            this.station = station;
+            this.prepMillis = prepMillis;
+        }
+    }
+}
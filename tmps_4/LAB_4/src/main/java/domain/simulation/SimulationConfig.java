@@ -0,0 +1,101 @@
+package domain.simulation;
+
+import domain.calendar.BusinessCalendar;
+import domain.kitchen.Station;
+import domain.models.inventory.Ingredient;
+
+import java.time.LocalDateTime;
+
+// Staffing, equipment and traffic for one simulated day. Setters return this for chaining.
+public class SimulationConfig {
+    // Customers per hour from opening; the day lasts one hour per entry
+    private int[] arrivalsPerHour = {40, 90, 70, 45, 35, 50, 55, 40, 30, 35, 30, 20};
+
+    private int registers = 1;
+    private int baristas = 3;
+    private final int[] stationUnits = new int[Station.values().length];
+
+    private long orderTakingMillis = 30_000;
+    private final long[] paymentMillis = new long[PaymentMethod.values().length];
+    private final int[] paymentSharePercent = new int[PaymentMethod.values().length];
+
+    private final int[] openingRestock = new int[Ingredient.COUNT];
+    private long seed = 42;
+
+    // Optional: arrivals and payments are checked against the calendar's hours
+    private BusinessCalendar calendar;
+    private LocalDateTime openingAt;
+
+    public enum PaymentMethod { CARD, MOBILE, CASH }
+
+    public SimulationConfig() {
+        for (Station station : Station.values()) {
+            stationUnits[station.ordinal()] = station.getUnits();
+        }
+        setPayment(PaymentMethod.CARD, 8_000, 60);
+        setPayment(PaymentMethod.MOBILE, 5_000, 25);
+        setPayment(PaymentMethod.CASH, 20_000, 15);
+    }
+
+    public SimulationConfig setArrivalsPerHour(int... arrivalsPerHour) {
+        this.arrivalsPerHour = arrivalsPerHour.clone();
+        return this;
+    }
+
+    public SimulationConfig setRegisters(int registers) {
+        this.registers = registers;
+        return this;
+    }
+
+    public SimulationConfig setBaristas(int baristas) {
+        this.baristas = baristas;
+        return this;
+    }
+
+    // 0 units means the station is never the bottleneck (e.g. the counter)
+    public SimulationConfig setStationUnits(Station station, int units) {
+        stationUnits[station.ordinal()] = units;
+        return this;
+    }
+
+    public SimulationConfig setOrderTakingMillis(long orderTakingMillis) {
+        this.orderTakingMillis = orderTakingMillis;
+        return this;
+    }
+
+    public SimulationConfig setPayment(PaymentMethod method, long latencyMillis, int sharePercent) {
+        paymentMillis[method.ordinal()] = latencyMillis;
+        paymentSharePercent[method.ordinal()] = sharePercent;
+        return this;
+    }
+
+    // Added on top of the default opening stock
+    public SimulationConfig addOpeningStock(Ingredient ingredient, int quantity) {
+        openingRestock[ingredient.ordinal()] += quantity;
+        return this;
+    }
+
+    // The simulated day starts at openingAt and is validated against the calendar's hours
+    public SimulationConfig setCalendar(BusinessCalendar calendar, LocalDateTime openingAt) {
+        this.calendar = calendar;
+        this.openingAt = openingAt;
+        return this;
+    }
+
+    public SimulationConfig setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    int[] getArrivalsPerHour() { return arrivalsPerHour; }
+    int getRegisters() { return registers; }
+    int getBaristas() { return baristas; }
+    int getStationUnits(Station station) { return stationUnits[station.ordinal()]; }
+    long getOrderTakingMillis() { return orderTakingMillis; }
+    long getPaymentMillis(PaymentMethod method) { return paymentMillis[method.ordinal()]; }
+    int getPaymentSharePercent(PaymentMethod method) { return paymentSharePercent[method.ordinal()]; }
+    int getOpeningRestock(Ingredient ingredient) { return openingRestock[ingredient.ordinal()]; }
+    long getSeed() { return seed; }
+    BusinessCalendar getCalendar() { return calendar; }
+    LocalDateTime getOpeningAt() { return openingAt; }
+}
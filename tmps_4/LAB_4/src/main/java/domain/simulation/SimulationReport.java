@@ -0,0 +1,121 @@
+package domain.simulation;
+
+import domain.kitchen.Station;
+import domain.models.inventory.Ingredient;
+import domain.pricing.Money;
+
+import java.util.Arrays;
+
+// Results of one simulated day
+public class SimulationReport {
+    int customersArrived;
+    int ordersServed;
+    int ordersRejected;
+    int ordersWhileClosed;
+    long revenueCents;
+    long drinksServed;
+    final int[] stockOuts = new int[Ingredient.COUNT];
+
+    long[] registerWaitMillis = new long[0];
+    long[] orderReadyMillis = new long[0];
+    int registerWaitCount;
+    int orderReadyCount;
+
+    QueueGauge registerQueue;
+    QueueGauge kitchenQueue;
+    double baristaUtilization;
+    final double[] stationUtilization = new double[Station.values().length];
+
+    long simulatedMillis;
+    long wallNanos;
+
+    void addRegisterWait(long millis) {
+        registerWaitMillis = append(registerWaitMillis, registerWaitCount++, millis);
+    }
+
+    void addOrderReady(long millis) {
+        orderReadyMillis = append(orderReadyMillis, orderReadyCount++, millis);
+    }
+
+    private static long[] append(long[] samples, int index, long value) {
+        if (index == samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(64, samples.length * 2));
+        }
+        samples[index] = value;
+        return samples;
+    }
+
+    public int getCustomersArrived() { return customersArrived; }
+    public int getOrdersServed() { return ordersServed; }
+    public int getOrdersRejected() { return ordersRejected; }
+    public int getOrdersWhileClosed() { return ordersWhileClosed; }
+    public long getRevenueCents() { return revenueCents; }
+    public int getStockOuts(Ingredient ingredient) { return stockOuts[ingredient.ordinal()]; }
+
+    public int getLostToStockOuts() {
+        int lost = 0;
+        for (int count : stockOuts) {
+            lost += count;
+        }
+        return lost;
+    }
+
+    public long getRegisterWaitPercentileMillis(double percentile) {
+        return percentile(registerWaitMillis, registerWaitCount, percentile);
+    }
+
+    public long getOrderReadyPercentileMillis(double percentile) {
+        return percentile(orderReadyMillis, orderReadyCount, percentile);
+    }
+
+    // Nearest-rank; -1 when there are no samples
+    private static long percentile(long[] samples, int count, double percentile) {
+        if (count == 0) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.max(0, Math.min(count, rank) - 1)];
+    }
+
+    public void display() {
+        System.out.println("\n" + "=".repeat(50));
+        System.out.println("           SIMULATED DAY");
+        System.out.println("=".repeat(50));
+        System.out.printf("Simulated %.1f h in %.0f ms%n", simulatedMillis / 3.6e6, wallNanos / 1e6);
+        System.out.printf("Customers: %d arrived, %d served, %d lost to stock-outs, %d rejected%n",
+                customersArrived, ordersServed, getLostToStockOuts(), ordersRejected);
+        if (ordersWhileClosed > 0) {
+            System.out.printf("Turned away after closing: %d%n", ordersWhileClosed);
+        }
+        System.out.printf("Drinks served: %d, revenue: $%s%n", drinksServed, Money.format(revenueCents));
+
+        System.out.printf("Register wait:   p50 %6.1f min   p99 %6.1f min%n",
+                minutes(getRegisterWaitPercentileMillis(50)), minutes(getRegisterWaitPercentileMillis(99)));
+        System.out.printf("Arrival→ready:   p50 %6.1f min   p99 %6.1f min%n",
+                minutes(getOrderReadyPercentileMillis(50)), minutes(getOrderReadyPercentileMillis(99)));
+        System.out.printf("Register queue:  avg %6.1f       max %d%n",
+                registerQueue.getAverageLength(simulatedMillis), registerQueue.getMaxLength());
+        System.out.printf("Kitchen queue:   avg %6.1f       max %d%n",
+                kitchenQueue.getAverageLength(simulatedMillis), kitchenQueue.getMaxLength());
+
+        System.out.printf("Baristas busy: %.0f%%%n", baristaUtilization * 100);
+        for (Station station : Station.values()) {
+            if (stationUtilization[station.ordinal()] > 0) {
+                System.out.printf("%s busy: %.0f%%%n", station.getDisplayName(), stationUtilization[station.ordinal()] * 100);
+            }
+        }
+
+        for (Ingredient ingredient : Ingredient.values()) {
+            if (stockOuts[ingredient.ordinal()] > 0) {
+                System.out.println("Ran out of " + ingredient.getDisplayName() + ": "
+                        + stockOuts[ingredient.ordinal()] + " orders turned away");
+            }
+        }
+    }
+
+    private static double minutes(long millis) {
+        return millis < 0 ? 0 : millis / 60_000.0;
+    }
+}
@@ -1,5 +1,8 @@
 package domain.strategy;
 
+import domain.id.IdGenerator;
+import domain.pricing.Money;
+
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
@@ -23,8 +26,8 @@ public class CardPaymentStrategy implements PaymentStrategy {
     }
 
     @Override
-    public boolean processPayment(double amount) {
-        if (!validatePayment(amount)) {
+    public boolean processPayment(long amountCents) {
+        if (!validatePayment(amountCents)) {
             return false;
         }
 
@@ -32,11 +35,11 @@ public class CardPaymentStrategy implements PaymentStrategy {
         System.out.println("Card Type: " + cardType.getName());
         System.out.println("Cardholder: " + cardHolderName);
         System.out.println("Card: " + getMaskedCardNumber());
-        System.out.println("Amount: $" + String.format("%.2f", amount));
+        System.out.println("Amount: $" + Money.format(amountCents));
 
         // Simulate payment processing
         System.out.print("\nAuthorizing");
-        this.authorizationCode = String.format("%06d", (int)(Math.random() * 1_000_000));
+        this.authorizationCode = generateAuthCode();
 
         System.out.println();
 
@@ -46,7 +49,7 @@ public class CardPaymentStrategy implements PaymentStrategy {
     }
 
     @Override
-    public String getPaymentReceipt(double amount) {
+    public String getPaymentReceipt(long amountCents) {
         StringBuilder receipt = new StringBuilder();
         receipt.append("\n").append("=".repeat(40)).append("\n");
         receipt.append("         PAYMENT RECEIPT\n");
@@ -56,7 +59,7 @@ public class CardPaymentStrategy implements PaymentStrategy {
         receipt.append("-".repeat(40)).append("\n");
         receipt.append("Cardholder:     ").append(cardHolderName).append("\n");
         receipt.append("Card:           ").append(getMaskedCardNumber()).append("\n");
-        receipt.append("Amount:         $").append(String.format("%7.2f", amount)).append("\n");
+        receipt.append("Amount:         $").append(String.format("%7s", Money.format(amountCents))).append("\n");
         receipt.append("Auth Code:      ").append(this.authorizationCode).append("\n");
         receipt.append("-".repeat(40)).append("\n");
         receipt.append("Status: APPROVED\n");
@@ -70,7 +73,7 @@ public class CardPaymentStrategy implements PaymentStrategy {
     }
 
     @Override
-    public boolean validatePayment(double amount) {
+    public boolean validatePayment(long amountCents) {
         // Validate card number length
         if (cardNumber.length() < 13 || cardNumber.length() > 19) {
             System.out.println(" Invalid card number length");
@@ -96,15 +99,15 @@ public class CardPaymentStrategy implements PaymentStrategy {
         }
 
         // Validate amount
-        if (amount <= 0) {
+        if (amountCents <= 0) {
             System.out.println(" Invalid amount");
             return false;
         }
 
         // Check transaction limit
-        if (amount > cardType.getTransactionLimit()) {
+        if (amountCents > cardType.getTransactionLimitCents()) {
             System.out.println(" Amount exceeds card limit of $" +
-                    String.format("%.2f", cardType.getTransactionLimit()));
+                    Money.format(cardType.getTransactionLimitCents()));
             return false;
         }
 
@@ -149,7 +152,7 @@ public class CardPaymentStrategy implements PaymentStrategy {
     }
 
     private String generateAuthCode() {
-        return String.format("%06d", (int)(Math.random() * 1000000));
+        return IdGenerator.getInstance().nextAuthorizationCode();
     }
 
     public CardType getCardType() {
@@ -1,23 +1,23 @@
 package domain.strategy;
 
 public enum CardType {
-    VISA("Visa", 10.0),
-    MASTERCARD("Mastercard", 7.0),
-    DEBIT("Debit Card", 100.0);
+    VISA("Visa", 1_000),
+    MASTERCARD("Mastercard", 700),
+    DEBIT("Debit Card", 10_000);
 
     private final String name;
-    private final double transactionLimit;
+    private final long transactionLimitCents;
 
-    CardType(String name, double transactionLimit) {
+    CardType(String name, long transactionLimitCents) {
         this.name = name;
-        this.transactionLimit = transactionLimit;
+        this.transactionLimitCents = transactionLimitCents;
     }
 
     public String getName() {
         return name;
     }
 
-    public double getTransactionLimit() {
-        return transactionLimit;
+    public long getTransactionLimitCents() {
+        return transactionLimitCents;
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package domain.strategy;
 
+import domain.pricing.Money;
+
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.LinkedHashMap;
@@ -7,30 +9,30 @@ import java.util.Map;
 
 
 public class CashPaymentStrategy implements PaymentStrategy {
-    private final double cashTendered;
+    private final long cashTenderedCents;
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-    private static final double[] DENOMINATIONS = {20.0, 10.0, 5.0, 1.0, 0.25, 0.10, 0.05, 0.01};
+    private static final long[] DENOMINATIONS_CENTS = {2000, 1000, 500, 100, 25, 10, 5, 1};
     private static final String[] DENOMINATION_NAMES = {"$20", "$10", "$5", "$1", "$0.25", "$0.10", "$0.05", "$0.01"};
 
-    public CashPaymentStrategy(double cashTendered) {
-        this.cashTendered = cashTendered;
+    public CashPaymentStrategy(long cashTenderedCents) {
+        this.cashTenderedCents = cashTenderedCents;
     }
 
     @Override
-    public boolean processPayment(double amount) {
-        if (!validatePayment(amount)) {
-            System.out.println(" Insufficient cash! Need $" + String.format("%.2f", amount) +
-                    " but received $" + String.format("%.2f", cashTendered));
+    public boolean processPayment(long amountCents) {
+        if (!validatePayment(amountCents)) {
+            System.out.println(" Insufficient cash! Need $" + Money.format(amountCents) +
+                    " but received $" + Money.format(cashTenderedCents));
             return false;
         }
 
         System.out.println("\n Processing cash payment...");
-        System.out.println("Amount due: $" + String.format("%.2f", amount));
-        System.out.println("Cash tendered: $" + String.format("%.2f", cashTendered));
+        System.out.println("Amount due: $" + Money.format(amountCents));
+        System.out.println("Cash tendered: $" + Money.format(cashTenderedCents));
 
-        double change = cashTendered - amount;
-        if (change > 0.005) {
-            System.out.println("\n Change due: $" + String.format("%.2f", change));
+        long change = cashTenderedCents - amountCents;
+        if (change > 0) {
+            System.out.println("\n Change due: $" + Money.format(change));
             Map<String, Integer> changeBreakdown = calculateChange(change);
 
             if (!changeBreakdown.isEmpty()) {
@@ -48,8 +50,8 @@ public class CashPaymentStrategy implements PaymentStrategy {
     }
 
     @Override
-    public String getPaymentReceipt(double amount) {
-        double change = cashTendered - amount;
+    public String getPaymentReceipt(long amountCents) {
+        long change = cashTenderedCents - amountCents;
 
         StringBuilder receipt = new StringBuilder();
         receipt.append("\n").append("=".repeat(40)).append("\n");
@@ -58,11 +60,11 @@ public class CashPaymentStrategy implements PaymentStrategy {
         receipt.append("Payment Method: Cash\n");
         receipt.append("Date: ").append(LocalDateTime.now().format(formatter)).append("\n");
         receipt.append("-".repeat(40)).append("\n");
-        receipt.append("Amount Due:     $").append(String.format("%7.2f", amount)).append("\n");
-        receipt.append("Cash Tendered:  $").append(String.format("%7.2f", cashTendered)).append("\n");
+        receipt.append("Amount Due:     $").append(String.format("%7s", Money.format(amountCents))).append("\n");
+        receipt.append("Cash Tendered:  $").append(String.format("%7s", Money.format(cashTenderedCents))).append("\n");
 
-        if (change > 0.005) {
-            receipt.append("Change:         $").append(String.format("%7.2f", change)).append("\n");
+        if (change > 0) {
+            receipt.append("Change:         $").append(String.format("%7s", Money.format(change))).append("\n");
         }
 
         receipt.append("-".repeat(40)).append("\n");
@@ -77,21 +79,19 @@ public class CashPaymentStrategy implements PaymentStrategy {
     }
 
     @Override
-    public boolean validatePayment(double amount) {
-        return cashTendered >= amount;
+    public boolean validatePayment(long amountCents) {
+        return cashTenderedCents >= amountCents;
     }
 
-    private Map<String, Integer> calculateChange(double change) {
+    private Map<String, Integer> calculateChange(long changeCents) {
         Map<String, Integer> breakdown = new LinkedHashMap<>();
-        double remaining = Math.round(change * 100.0) / 100.0;
-
-        for (int i = 0; i < DENOMINATIONS.length; i++) {
-            if (remaining >= DENOMINATIONS[i] - 0.001) {
-                int count = (int) (remaining / DENOMINATIONS[i]);
-                if (count > 0) {
-                    breakdown.put(DENOMINATION_NAMES[i], count);
-                    remaining = Math.round((remaining - (count * DENOMINATIONS[i])) * 100.0) / 100.0;
-                }
+        long remaining = changeCents;
+
+        for (int i = 0; i < DENOMINATIONS_CENTS.length; i++) {
+            int count = (int) (remaining / DENOMINATIONS_CENTS[i]);
+            if (count > 0) {
+                breakdown.put(DENOMINATION_NAMES[i], count);
+                remaining -= count * DENOMINATIONS_CENTS[i];
             }
         }
 
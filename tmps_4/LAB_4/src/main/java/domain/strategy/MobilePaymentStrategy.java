@@ -1,5 +1,8 @@
 package domain.strategy;
 
+import domain.id.IdGenerator;
+import domain.pricing.Money;
+
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -8,6 +11,7 @@ public class MobilePaymentStrategy implements PaymentStrategy {
     private final String provider;
     private final String deviceId;
     private final boolean useBiometric;
+    private String confirmationCode;
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     public MobilePaymentStrategy(String phoneNumber, String provider, String deviceId) {
@@ -22,15 +26,15 @@ public class MobilePaymentStrategy implements PaymentStrategy {
     }
 
     @Override
-    public boolean processPayment(double amount) {
-        if (!validatePayment(amount)) {
+    public boolean processPayment(long amountCents) {
+        if (!validatePayment(amountCents)) {
             return false;
         }
 
         System.out.println("\n📱 Processing " + provider + " payment...");
         System.out.println("Phone: " + getMaskedPhoneNumber());
         System.out.println("Device: " + getMaskedDeviceId());
-        System.out.println("Amount: $" + String.format("%.2f", amount));
+        System.out.println("Amount: $" + Money.format(amountCents));
 
         // Simulate sending to device
         System.out.println("\n Sending payment request to your device...");
@@ -51,13 +55,14 @@ public class MobilePaymentStrategy implements PaymentStrategy {
         System.out.println();
 
         System.out.println(" Payment authorized via " + provider + "!");
-        System.out.println("Confirmation: " + generateConfirmationCode());
+        this.confirmationCode = generateConfirmationCode();
+        System.out.println("Confirmation: " + this.confirmationCode);
 
         return true;
     }
 
     @Override
-    public String getPaymentReceipt(double amount) {
+    public String getPaymentReceipt(long amountCents) {
         StringBuilder receipt = new StringBuilder();
         receipt.append("\n").append("=".repeat(40)).append("\n");
         receipt.append("         PAYMENT RECEIPT\n");
@@ -67,8 +72,8 @@ public class MobilePaymentStrategy implements PaymentStrategy {
         receipt.append("-".repeat(40)).append("\n");
         receipt.append("Phone:          ").append(getMaskedPhoneNumber()).append("\n");
         receipt.append("Device:         ").append(getMaskedDeviceId()).append("\n");
-        receipt.append("Amount:         $").append(String.format("%7.2f", amount)).append("\n");
-        receipt.append("Confirmation:   ").append(generateConfirmationCode()).append("\n");
+        receipt.append("Amount:         $").append(String.format("%7s", Money.format(amountCents))).append("\n");
+        receipt.append("Confirmation:   ").append(this.confirmationCode).append("\n");
 
         String authMethod = useBiometric ? "Biometric" : "PIN";
         receipt.append("Auth Method:    ").append(authMethod).append("\n");
@@ -87,7 +92,7 @@ public class MobilePaymentStrategy implements PaymentStrategy {
     }
 
     @Override
-    public boolean validatePayment(double amount) {
+    public boolean validatePayment(long amountCents) {
         // Validate phone number (must be 10 digits)
         String digitsOnly = phoneNumber.replaceAll("[^0-9]", "");
         if (digitsOnly.length() != 10) {
@@ -109,16 +114,16 @@ public class MobilePaymentStrategy implements PaymentStrategy {
         }
 
         // Validate amount
-        if (amount <= 0) {
+        if (amountCents <= 0) {
             System.out.println(" Invalid amount");
             return false;
         }
 
         // Check provider limit
-        double limit = getProviderLimit(provider);
-        if (amount > limit) {
+        long limitCents = getProviderLimitCents(provider);
+        if (amountCents > limitCents) {
             System.out.println(" Amount exceeds " + provider + " limit of $" +
-                    String.format("%.2f", limit));
+                    Money.format(limitCents));
             return false;
         }
 
@@ -134,14 +139,14 @@ public class MobilePaymentStrategy implements PaymentStrategy {
                 lower.contains("samsung");
     }
 
-    private double getProviderLimit(String provider) {
+    private long getProviderLimitCents(String provider) {
         String lower = provider.toLowerCase();
         if (lower.contains("apple") || lower.contains("google")) {
-            return 5000.0;
+            return 500_000;
         } else if (lower.contains("samsung")) {
-            return 3000.0;
+            return 300_000;
         }
-        return 1000.0;
+        return 100_000;
     }
 
     private String getMaskedPhoneNumber() {
@@ -162,7 +167,7 @@ public class MobilePaymentStrategy implements PaymentStrategy {
     }
 
     private String generateConfirmationCode() {
-        return String.format("%08d", (int)(Math.random() * 100000000));
+        return IdGenerator.getInstance().nextConfirmationCode();
     }
 
     private void simulateDelay(int ms) {
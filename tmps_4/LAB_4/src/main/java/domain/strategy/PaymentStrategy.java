@@ -1,8 +1,9 @@
 package domain.strategy;
 
 public interface PaymentStrategy {
-    boolean processPayment(double amount);
-    String getPaymentReceipt(double amount);
+    // Amounts are in cents
+    boolean processPayment(long amountCents);
+    String getPaymentReceipt(long amountCents);
     String getPaymentMethodName();
-    boolean validatePayment(double amount);
+    boolean validatePayment(long amountCents);
 }
\ No newline at end of file